@@ -0,0 +1,62 @@
+package io.owenrbee.tambak.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custom annotation to memoize the {@link java.util.List} returned by a method,
+ * per combination of arguments (compared with {@code equals}) and target
+ * instance. Requires Caffeine on the classpath.
+ * <p>
+ * The cached value is the result <em>after</em> every other Tambak
+ * transformation of the method, stored as an unmodifiable snapshot that is
+ * shared by all callers. A {@code null} result is never cached.
+ * <p>
+ * The cache is bounded by {@link #maximumSize()} and evicts by frequency and
+ * recency (Caffeine's W-TinyLFU). Concurrent calls missing the same key run the
+ * method only once; the others wait for its result. Hits, misses, loads and
+ * evictions are recorded, and published to Micrometer when it is present.
+ */
+@Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
+@Target(ElementType.METHOD) // Apply this annotation only to methods
+public @interface CachedList {
+
+    /**
+     * Maximum number of argument combinations kept for the method.
+     *
+     * @return the maximum number of entries. Defaults to {@code 1000}.
+     */
+    long maximumSize() default 1000;
+
+    /**
+     * Time after which an entry expires and the next call runs the method again.
+     *
+     * @return the time to live in {@link #timeUnit()}, or {@code -1} to never
+     *         expire. Defaults to {@code -1}.
+     */
+    long expireAfterWrite() default -1;
+
+    /**
+     * Time after which an entry is reloaded on its next access. That access
+     * runs the method again, on the caller's thread and within its advice, and
+     * gets the new value; all other accesses until the reload completes still
+     * get the current value, so popular entries never block on a reload. If
+     * the reload fails, the current value is kept. Should be shorter than
+     * {@link #expireAfterWrite()}.
+     *
+     * @return the refresh delay in {@link #timeUnit()}, or {@code -1} to never
+     *         refresh. Defaults to {@code -1}.
+     */
+    long refreshAfterWrite() default -1;
+
+    /**
+     * @return the unit of {@link #expireAfterWrite()} and
+     *         {@link #refreshAfterWrite()}. Defaults to
+     *         {@link TimeUnit#SECONDS}.
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
@@ -0,0 +1,33 @@
+package io.owenrbee.tambak.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Custom annotation to repackage a {@code List<Integer>} or {@code List<Long>}
+ * returned by a method into an immutable, {@link java.util.RandomAccess} list
+ * backed by an {@code int[]} or {@code long[]}
+ * ({@link io.owenrbee.tambak.collection.CompactIntList},
+ * {@link io.owenrbee.tambak.collection.CompactLongList}). A boxed element costs
+ * a reference plus a 16-byte object; a packed one costs 4 or 8 bytes, which
+ * matters for large results held in caches, for instance by {@link CachedList}.
+ * <p>
+ * Empty results become the shared {@link java.util.List#of() empty list} and
+ * single elements a {@link java.util.List#of(Object) one-element list}, as an
+ * array would not save anything there. Lists holding {@code null}, other types,
+ * or a mix of {@code Integer} and {@code Long} are returned unchanged.
+ * <p>
+ * Compaction comes last in the {@link io.owenrbee.tambak.support.TransformPlan}.
+ * Stacked on {@link UniqueList} (without {@code by}), {@link SortedList}
+ * (without {@code by}), {@link ReverseList} or {@link LimitList}, the result is
+ * unboxed once and those transformations run on the primitive array directly.
+ * The method must be declared to return {@code List} (or a supertype); other
+ * return types, such as {@code ArrayList}, are left untouched.
+ */
+@Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
+@Target(ElementType.METHOD) // Apply this annotation only to methods
+public @interface CompactList {
+
+}
@@ -0,0 +1,26 @@
+package io.owenrbee.tambak.annotation;
+
+/**
+ * Whose previous results {@link DistinctAcrossCalls} compares a result with.
+ */
+public enum DistinctScope {
+
+    /** All calls of the method share one window, whoever makes them. */
+    METHOD,
+
+    /**
+     * Every thread has its own window. Each thread that calls the method holds a
+     * filter of its own, so keep this for a small, fixed set of threads, such as
+     * scheduled pollers.
+     */
+    THREAD,
+
+    /**
+     * Calls with an equal argument at {@link DistinctAcrossCalls#keyArgument()},
+     * for example the same consumer id, share a window. At most
+     * {@link DistinctAcrossCalls#maxKeys()} windows are kept, the least recently
+     * used one is dropped first.
+     */
+    ARGUMENT
+
+}
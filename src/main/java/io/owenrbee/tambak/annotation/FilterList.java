@@ -0,0 +1,42 @@
+package io.owenrbee.tambak.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Custom annotation to drop the elements of the List returned by a method that
+ * do not match a SpEL predicate, for example
+ * {@code @FilterList("#e.active && #e.score > 10")}.
+ * <p>
+ * The element is available as the variable {@code #e} and as the root object,
+ * so {@code "active"} works as well as {@code "#e.active"}. Use
+ * {@code "#e != null"} to drop {@code null} elements, and the safe navigation
+ * operator ({@code #e?.active}) to let a predicate tolerate them. Elements for
+ * which the expression yields {@code null} are dropped.
+ * <p>
+ * The expression is parsed once per method and compiled to bytecode after its
+ * first evaluation ({@link org.springframework.expression.spel.SpelCompilerMode#IMMEDIATE}),
+ * so per-element evaluation is no longer interpreted. The elements of a method
+ * are therefore expected to share one type. Expressions SpEL cannot compile
+ * keep being interpreted; comparing a {@code long} property needs a
+ * {@code long} literal to compile, as in {@code "#e.id > 2L"}. Native images,
+ * which cannot define classes at run time, interpret the expression instead.
+ * <p>
+ * Filtering comes right after the null guard in the
+ * {@link io.owenrbee.tambak.support.TransformPlan}. A mutable
+ * {@link java.util.ArrayList} result is compacted in place; stacked on
+ * {@link UniqueList}, filtering and de-duplication share a single pass. Streams,
+ * iterators and Reactor publishers are filtered lazily.
+ */
+@Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
+@Target(ElementType.METHOD) // Apply this annotation only to methods
+public @interface FilterList {
+
+    /**
+     * @return the SpEL expression elements must match to be kept.
+     */
+    String value();
+
+}
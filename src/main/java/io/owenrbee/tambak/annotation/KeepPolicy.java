@@ -0,0 +1,23 @@
+package io.owenrbee.tambak.annotation;
+
+/**
+ * Which element {@link UniqueList} keeps when several elements are duplicates
+ * of each other.
+ */
+public enum KeepPolicy {
+
+    /**
+     * Keep the first occurrence. Elements are filtered in a single forward pass,
+     * so lazy results stay lazy.
+     */
+    FIRST,
+
+    /**
+     * Keep the last occurrence, for example the most recent version of an
+     * entity. The kept elements stay in encounter order of their last
+     * occurrence. Needs the whole result, so streams, iterators and fluxes are
+     * buffered once they are first pulled from.
+     */
+    LAST
+
+}
@@ -0,0 +1,42 @@
+package io.owenrbee.tambak.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Custom annotation to cap the List returned by a method to one page of at
+ * most {@link #max()} elements, starting at {@link #offset()}, for example
+ * {@code @LimitList(max = 100)}.
+ * <p>
+ * A {@link java.util.List} result is cut with an O(1)
+ * {@link java.util.List#subList(int, int) subList} view, backed by the
+ * original list, instead of a copy. A {@link java.util.stream.Stream},
+ * {@link java.util.Iterator} or {@link Iterable} result stops pulling from its
+ * source once the page is complete, so upstream producers such as database
+ * cursors are not read any further. A Reactor {@code Flux} is cancelled.
+ * <p>
+ * The page is taken last, after every other Tambak transformation. Stacked on
+ * {@link SortedList} without {@link ReverseList}, only the first
+ * {@code offset + max} elements are selected in the first place.
+ * <p>
+ * A negative {@code max} or {@code offset} is rejected with an
+ * {@link IllegalArgumentException} on the first call of the method.
+ */
+@Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
+@Target(ElementType.METHOD) // Apply this annotation only to methods
+public @interface LimitList {
+
+    /**
+     * @return the maximum number of elements returned, not negative.
+     */
+    int max();
+
+    /**
+     * @return the number of leading elements skipped, not negative. Defaults
+     *         to {@code 0}.
+     */
+    int offset() default 0;
+
+}
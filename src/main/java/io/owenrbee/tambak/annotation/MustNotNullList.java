@@ -10,11 +10,26 @@ import java.util.List;
 /**
  * Custom annotation to ensure that a method returning a {@link List}
  * never returns {@code null}. If the annotated method returns {@code null},
- * an empty list will be returned instead.
+ * an empty list will be returned instead. Methods returning a
+ * {@link java.util.stream.Stream} or {@link java.util.Iterator} get an empty
+ * stream or iterator, methods returning an {@link Iterable} an empty list.
+ * For a {@link java.util.concurrent.CompletableFuture} or a Reactor
+ * {@code Mono} of a list, the value it completes with is guarded instead, and
+ * an empty {@code Mono} emits an empty list.
+ * <p>
+ * Methods returning a {@link java.util.Set} or {@link java.util.Map}, or their
+ * sorted variants, get an empty set or map, methods returning an
+ * {@link java.util.Optional} {@link java.util.Optional#empty()}, and methods
+ * returning an array a shared zero-length array of the declared type.
  * <p>
  * The {@code modifiable} option controls whether the newly created empty list
  * is modifiable (an instance of {@link java.util.ArrayList}) or unmodifiable
- * (obtained via {@link Collections#emptyList()}).
+ * (obtained via {@link Collections#emptyList()}). Neither allocates any
+ * storage: an {@code ArrayList} only allocates its array on the first
+ * insertion, and unmodifiable empty values are shared. Sets and maps follow the
+ * same pattern, with a {@link io.owenrbee.tambak.collection.LazySet},
+ * {@link java.util.HashMap}, {@link java.util.TreeSet} or
+ * {@link java.util.TreeMap} when modifiable.
  */
 @Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime
 @Target(ElementType.METHOD) // Apply this annotation only to methods
@@ -26,6 +41,7 @@ public @interface MustNotNullList {
      * <p>
      * If {@code true}, a new {@link java.util.ArrayList} is returned.
      * If {@code false}, {@link Collections#emptyList()} is returned.
+     * Optionals and arrays are immutable either way.
      *
      * @return {@code true} if the list should be modifiable, {@code false}
      *         otherwise.
@@ -9,9 +9,32 @@ import java.lang.annotation.Target;
  * Custom annotation to indicate that the List returned by a method
  * should be reversed. This annotation is retained at runtime, allowing
  * AOP aspects to intercept and modify the method's return value.
+ * <p>
+ * Methods returning a {@link java.util.stream.Stream},
+ * {@link java.util.Iterator} or {@link Iterable} are reversed lazily: the
+ * elements are buffered only when the first one is requested.
+ * <p>
+ * Arrays, {@code int[]} and {@code long[]} included, are reversed by swapping
+ * their elements in place; arrays have no views, so {@link ReverseMode#VIEW}
+ * reverses a copy like {@link ReverseMode#COPY}.
+ * <p>
+ * The {@code mode} option controls whether the list is reversed in place, as a
+ * lazy view, or as a copy (see {@link ReverseMode}).
  */
 @Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
 @Target(ElementType.METHOD) // Apply this annotation only to methods
 public @interface ReverseList {
 
+    /**
+     * Specifies how the returned list is reversed. Only applies to {@code List}
+     * results.
+     * <p>
+     * {@link ReverseMode#VIEW} avoids touching the memory of large read-mostly
+     * results altogether; {@link ReverseMode#COPY} leaves lists that are shared
+     * with other code untouched.
+     *
+     * @return the reversal mode. Defaults to {@link ReverseMode#IN_PLACE}.
+     */
+    ReverseMode mode() default ReverseMode.IN_PLACE;
+
 }
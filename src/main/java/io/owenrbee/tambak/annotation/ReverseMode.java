@@ -0,0 +1,30 @@
+package io.owenrbee.tambak.annotation;
+
+/**
+ * How {@link ReverseList} reverses the list returned by a method.
+ */
+public enum ReverseMode {
+
+    /**
+     * Reverse the returned list itself, in O(n) swaps. If the list cannot be
+     * modified, for example one created by {@code List.of(...)}, a reversed copy
+     * is returned instead, as it is when
+     * {@link io.owenrbee.tambak.support.TambakSettings#setCopyOnWrite(boolean)
+     * copy-on-write} is on.
+     */
+    IN_PLACE,
+
+    /**
+     * Return an O(1) reversed view backed by the original list. Nothing is
+     * copied or written; the view reads the original list back to front and
+     * reflects later changes to it.
+     */
+    VIEW,
+
+    /**
+     * Return a new, modifiable list with the elements in reverse order. The
+     * original list is never modified.
+     */
+    COPY
+
+}
@@ -0,0 +1,67 @@
+package io.owenrbee.tambak.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Custom annotation to indicate that the List returned by a method should be
+ * sorted, optionally keeping only its first {@link #limit()} elements, for
+ * example {@code @SortedList(by = "score", descending = true, limit = 50)}.
+ * <p>
+ * Elements are compared by their natural order, or by one of their properties
+ * when {@link #by()} is set; {@code null} elements and keys sort last. The sort
+ * is stable: equal elements keep their encounter order.
+ * <p>
+ * With a {@code limit}, the top elements are selected with a bounded heap in
+ * O(n log k) instead of sorting everything. Large unbounded sorts run on
+ * {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}.
+ * <p>
+ * Methods returning a {@link java.util.stream.Stream},
+ * {@link java.util.Iterator} or {@link Iterable} are sorted once their first
+ * element is requested, which buffers the source.
+ * <p>
+ * Arrays are sorted in place, unless {@link #inPlace()} is turned off; an
+ * {@code int[]} or {@code long[]} in natural order, ignoring {@link #by()}.
+ */
+@Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
+@Target(ElementType.METHOD) // Apply this annotation only to methods
+public @interface SortedList {
+
+    /**
+     * Name of the property elements are sorted by, read like
+     * {@link UniqueList#by()}. The property values must be
+     * {@link Comparable}.
+     *
+     * @return the sort key property, or an empty string to sort
+     *         {@link Comparable} elements by their natural order. Defaults to an
+     *         empty string.
+     */
+    String by() default "";
+
+    /**
+     * @return {@code true} to sort from the largest to the smallest key.
+     *         Defaults to {@code false}.
+     */
+    boolean descending() default false;
+
+    /**
+     * Maximum number of elements to keep, the first ones in sort order.
+     *
+     * @return the number of elements to keep, or {@code -1} to keep them all.
+     *         Defaults to {@code -1}.
+     */
+    int limit() default -1;
+
+    /**
+     * Specifies whether a returned {@link java.util.ArrayList} may be sorted in
+     * place rather than copied. Turn this off when the method hands out a list
+     * that is shared with other code.
+     *
+     * @return {@code true} to sort mutable lists in place. Defaults to
+     *         {@code true}.
+     */
+    boolean inPlace() default true;
+
+}
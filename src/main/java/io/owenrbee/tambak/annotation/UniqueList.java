@@ -5,8 +5,108 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Custom annotation to indicate that duplicate elements should be removed from
+ * the {@link java.util.List} returned by a method. The first occurrence of each
+ * element is kept (see {@link #keep()}) and the original encounter order is
+ * preserved.
+ * <p>
+ * Elements are compared with {@code equals}/{@code hashCode}, or by one of
+ * their properties when {@link #by()} is set. Lists of
+ * {@code Integer} or {@code Long} values are de-duplicated without boxing.
+ * The result is a new list unless {@link #inPlace()} is turned on.
+ * <p>
+ * Methods returning a {@link java.util.stream.Stream},
+ * {@link java.util.Iterator} or {@link Iterable} are de-duplicated lazily:
+ * elements are filtered as they are pulled, without materializing the
+ * result.
+ * <p>
+ * Methods returning an {@code int[]} or {@code long[]} are de-duplicated with
+ * a primitive hash set, or by dropping adjacent repeats when stacked on
+ * {@link SortedList}, into a trimmed array; object arrays are trimmed the same
+ * way. {@link #by()} does not apply to primitive arrays.
+ */
 @Retention(RetentionPolicy.RUNTIME) // Make the annotation available at runtime for AOP processing
 @Target(ElementType.METHOD) // Apply this annotation only to methods
 public @interface UniqueList {
 
+    /**
+     * Declares that the returned list is sorted, or at least that equal elements
+     * are always adjacent. Duplicates are then removed by comparing neighbours
+     * only, in O(n) and without hashing.
+     * <p>
+     * If the list is not actually sorted, non-adjacent duplicates are kept.
+     *
+     * @return {@code true} if equal elements are adjacent. Defaults to
+     *         {@code false}.
+     */
+    boolean assumeSorted() default false;
+
+    /**
+     * Specifies whether a returned {@link java.util.ArrayList} may be compacted
+     * in place rather than copied into a new list.
+     * <p>
+     * Only turn this on when the method builds a fresh list on every call:
+     * compacting a list that is shared with other code, such as a field or a
+     * cached instance, removes the duplicates for every holder of it.
+     *
+     * @return {@code true} to compact mutable lists in place. Defaults to
+     *         {@code false}.
+     */
+    boolean inPlace() default false;
+
+    /**
+     * Name of the property elements are compared by, instead of the whole
+     * element, for example {@code @UniqueList(by = "id")}. The property is read
+     * through a getter ({@code getId()} or {@code isId()}), a record-style
+     * accessor ({@code id()}) or a field, looked up on the runtime class of the
+     * elements.
+     * <p>
+     * The accessor is compiled once per element class into a direct call, so
+     * reading the key costs about as much as calling the getter by hand.
+     *
+     * @return the key property, or an empty string to compare whole elements.
+     *         Defaults to an empty string.
+     */
+    String by() default "";
+
+    /**
+     * Specifies which of several duplicates is kept.
+     *
+     * @return the keep policy. Defaults to {@link KeepPolicy#FIRST}.
+     */
+    KeepPolicy keep() default KeepPolicy.FIRST;
+
+    /**
+     * Minimum list size from which duplicates are removed in parallel on the
+     * common {@link java.util.concurrent.ForkJoinPool}, for example
+     * {@code @UniqueList(parallelThreshold = 100_000)}. The result is the same
+     * as the sequential one, including the order of the kept elements.
+     * <p>
+     * Only applies to random-access lists and not to {@link #assumeSorted()}
+     * input, which needs no hashing. Key functions ({@link #by()}) are called
+     * from several threads.
+     *
+     * @return the size from which to de-duplicate in parallel. Defaults to
+     *         {@link Integer#MAX_VALUE}, which means never.
+     */
+    int parallelThreshold() default Integer.MAX_VALUE;
+
+    /**
+     * Heap budget, in bytes, of the set of elements seen so far, for example
+     * {@code @UniqueList(maxHeapBytes = 64L << 20)}. When the set for the
+     * returned list would need more, it is kept in a memory-mapped temporary
+     * file instead: only hashes and list positions are stored there, equal
+     * hashes are confirmed with {@code equals} against the list, and the result
+     * is the same as on the heap.
+     * <p>
+     * Only applies to random-access lists and object arrays, and not to
+     * {@link #assumeSorted()} input, which needs no set. It takes precedence
+     * over {@link #parallelThreshold()}, which needs more heap rather than less.
+     *
+     * @return the heap budget of the seen-set. Defaults to
+     *         {@link Long#MAX_VALUE}, which means never spill.
+     */
+    long maxHeapBytes() default Long.MAX_VALUE;
+
 }
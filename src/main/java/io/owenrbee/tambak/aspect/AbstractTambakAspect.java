@@ -0,0 +1,72 @@
+package io.owenrbee.tambak.aspect;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.TambakObserver;
+import io.owenrbee.tambak.support.TransformPlan;
+
+/**
+ * Common advice logic of the Tambak list aspects: resolve the method's
+ * {@link TransformPlan}, apply it if this aspect leads the plan, and report the
+ * invocation to the registered {@link TambakObserver observers}.
+ */
+public abstract class AbstractTambakAspect {
+
+    private volatile TambakObserver observer = TambakObserver.NONE;
+
+    /**
+     * Registers the observers notified of every invocation this aspect applies a
+     * plan for, such as the Micrometer metrics.
+     *
+     * @param observers the observers to notify.
+     */
+    @Autowired(required = false)
+    public void setObservers(List<TambakObserver> observers) {
+        this.observer = TambakObserver.composite(observers);
+    }
+
+    /**
+     * Proceeds with the advised method and applies its plan, unless another
+     * Tambak aspect is responsible for it.
+     *
+     * @param joinPoint      the method execution join point.
+     * @param annotationType the annotation handled by the calling aspect.
+     * @return the (potentially transformed) result.
+     * @throws Throwable if the advised method throws.
+     */
+    protected final Object advise(ProceedingJoinPoint joinPoint, Class<? extends Annotation> annotationType)
+            throws Throwable {
+        TambakObserver current = this.observer;
+        boolean observed = current != TambakObserver.NONE && current.isActive();
+        long start = observed ? System.nanoTime() : 0L;
+
+        TransformPlan plan = AdvisedMethods.plan(joinPoint);
+        if (!plan.isAppliedBy(annotationType)) {
+            // Another Tambak aspect applies the fused plan of this method.
+            return joinPoint.proceed();
+        }
+        if (!observed) {
+            return plan.apply(joinPoint.proceed());
+        }
+
+        long beforeTarget = System.nanoTime();
+        Object result = joinPoint.proceed();
+        long afterTarget = System.nanoTime();
+        Object transformed = plan.apply(result);
+        long end = System.nanoTime();
+
+        current.onInvocation(plan, afterTarget - beforeTarget, (beforeTarget - start) + (end - afterTarget),
+                sizeOf(result), sizeOf(transformed), result == null && transformed != null);
+        return transformed;
+    }
+
+    private static int sizeOf(Object value) {
+        return value instanceof Collection<?> collection ? collection.size() : -1;
+    }
+}
@@ -0,0 +1,97 @@
+package io.owenrbee.tambak.aspect;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.owenrbee.tambak.annotation.CachedList;
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.ListCache;
+import io.owenrbee.tambak.support.ListCacheListener;
+import io.owenrbee.tambak.support.TransformPlan;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that memoizes the lists returned by methods annotated with
+ * {@link CachedList}. Only registered when Caffeine is on the classpath.
+ * <p>
+ * It is the outermost Tambak advice, so a hit skips the method and all other
+ * Tambak transformations, and a miss caches their combined result.
+ */
+@Aspect
+@Order(TambakAspectOrder.CACHED_LIST)
+@Slf4j
+public class CachedListAspect {
+
+    private final ConcurrentMap<Method, ListCache> caches = new ConcurrentHashMap<>();
+
+    private volatile List<ListCacheListener> listeners = List.of();
+
+    /**
+     * Registers the listeners notified of every cache created, such as the
+     * Micrometer cache metrics.
+     *
+     * @param listeners the listeners to notify.
+     */
+    @Autowired(required = false)
+    public void setListeners(List<ListCacheListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Around advice that intercepts calls to methods annotated with
+     * {@code @CachedList} and returning a {@link java.util.List}.
+     *
+     * @param joinPoint            The join point representing the method
+     *                             execution.
+     * @param cachedListAnnotation The instance of the @CachedList annotation.
+     * @return The cached list, or the method's result on a miss.
+     * @throws Throwable if the original method execution throws an exception.
+     */
+    @Around("@annotation(cachedListAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.listResult()")
+    public Object cacheList(ProceedingJoinPoint joinPoint, CachedList cachedListAnnotation) throws Throwable {
+        if (log.isDebugEnabled()) {
+            log.debug(">>> CachedListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
+        }
+
+        TransformPlan plan = AdvisedMethods.plan(joinPoint);
+        if (!plan.isEnabled(CachedList.class)) {
+            return joinPoint.proceed(); // Switched off in the TambakSettings.
+        }
+        Method method = plan.method();
+        ListCache cache = caches.get(method);
+        if (cache == null) {
+            cache = caches.computeIfAbsent(method, m -> newCache(m, cachedListAnnotation));
+        }
+        return cache.get(joinPoint);
+    }
+
+    /**
+     * @return hit, miss, load and eviction statistics of every cached method,
+     *         keyed by method signature.
+     */
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        caches.forEach((method, cache) -> stats.put(AdvisedMethods.signature(method), cache.cache().stats()));
+        return stats;
+    }
+
+    private ListCache newCache(Method method, CachedList cachedList) {
+        ListCache cache = new ListCache(cachedList);
+        for (ListCacheListener listener : listeners) {
+            listener.onCacheCreated(method, cache);
+        }
+        return cache;
+    }
+}
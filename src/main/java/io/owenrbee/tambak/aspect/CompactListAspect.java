@@ -0,0 +1,48 @@
+package io.owenrbee.tambak.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.owenrbee.tambak.annotation.CompactList;
+import io.owenrbee.tambak.support.TransformPlan;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that intercepts methods annotated with @CompactList.
+ * If the intercepted method returns a List of Integers or Longs, this aspect
+ * returns an immutable list backed by a primitive array instead.
+ * <p>
+ * Compaction is the last step of the {@link TransformPlan}; stacked with other
+ * Tambak annotations, their transformations run on the unboxed values.
+ */
+@Aspect // Declares this class as an Aspect
+@Component // Makes this a Spring component
+@Order(TambakAspectOrder.COMPACT_LIST)
+@Slf4j
+public class CompactListAspect extends AbstractTambakAspect {
+
+    /**
+     * Around advice that intercepts calls to methods annotated with @CompactList.
+     * The pointcut expression ensures that only methods returning a
+     * `java.util.List` (or an asynchronous result completing with one)
+     * and annotated with `@CompactList` are advised; lazy results pass through.
+     *
+     * @param joinPoint             The join point representing the method execution.
+     * @param compactListAnnotation The instance of the @CompactList annotation.
+     * @return The method's result, packed into a primitive-backed list if possible.
+     * @throws Throwable if the original method execution throws an exception.
+     */
+    @Around("@annotation(compactListAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()")
+    public Object compactList(ProceedingJoinPoint joinPoint, CompactList compactListAnnotation) throws Throwable {
+        if (log.isDebugEnabled()) {
+            log.debug(">>> CompactListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
+        }
+
+        // Proceed with the original method execution and pack its result, unless
+        // another Tambak aspect applies the fused plan.
+        return advise(joinPoint, CompactList.class);
+    }
+}
@@ -0,0 +1,70 @@
+package io.owenrbee.tambak.aspect;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.owenrbee.tambak.annotation.DistinctAcrossCalls;
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.DistinctWindow;
+import io.owenrbee.tambak.support.TransformPlan;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that drops the elements a method annotated with
+ * {@link DistinctAcrossCalls} already returned within its window.
+ * <p>
+ * It is the outermost Tambak advice, so it sees the final result of every call,
+ * including cache hits.
+ */
+@Aspect
+@Component
+@Order(TambakAspectOrder.DISTINCT_ACROSS_CALLS)
+@Slf4j
+public class DistinctAcrossCallsAspect {
+
+    private final ConcurrentMap<Method, DistinctWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Around advice that intercepts calls to methods annotated with
+     * {@code @DistinctAcrossCalls} and returning a {@link java.util.List}.
+     *
+     * @param joinPoint          The join point representing the method
+     *                           execution.
+     * @param distinctAnnotation The instance of the @DistinctAcrossCalls
+     *                           annotation.
+     * @return The result of the method execution, without the elements returned
+     *         before within the window.
+     * @throws Throwable if the original method execution throws an exception.
+     */
+    @Around("@annotation(distinctAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.listResult()")
+    public Object distinctAcrossCalls(ProceedingJoinPoint joinPoint, DistinctAcrossCalls distinctAnnotation)
+            throws Throwable {
+        if (log.isDebugEnabled()) {
+            log.debug(">>> DistinctAcrossCallsAspect: Intercepting method: {}",
+                    joinPoint.getSignature().toShortString());
+        }
+
+        TransformPlan plan = AdvisedMethods.plan(joinPoint);
+        if (!plan.isEnabled(DistinctAcrossCalls.class)) {
+            return joinPoint.proceed(); // Switched off in the TambakSettings.
+        }
+        Object result = joinPoint.proceed();
+        if (!(result instanceof List<?> list) || list.isEmpty()) {
+            return result;
+        }
+        Method method = plan.method();
+        DistinctWindow window = windows.get(method);
+        if (window == null) {
+            window = windows.computeIfAbsent(method, m -> new DistinctWindow(distinctAnnotation));
+        }
+        return window.filter(list, joinPoint.getArgs());
+    }
+}
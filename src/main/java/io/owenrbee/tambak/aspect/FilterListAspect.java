@@ -0,0 +1,49 @@
+package io.owenrbee.tambak.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.owenrbee.tambak.annotation.FilterList;
+import io.owenrbee.tambak.support.TransformPlan;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that intercepts methods annotated with @FilterList.
+ * If the intercepted method returns a List, this aspect drops the elements not
+ * matching the annotation's SpEL predicate.
+ * <p>
+ * Filtering comes right after the null guard in the {@link TransformPlan};
+ * stacked on @UniqueList, both run in a single pass.
+ */
+@Aspect // Declares this class as an Aspect
+@Component // Makes this a Spring component
+@Order(TambakAspectOrder.FILTER_LIST)
+@Slf4j
+public class FilterListAspect extends AbstractTambakAspect {
+
+    /**
+     * Around advice that intercepts calls to methods annotated with @FilterList.
+     * The pointcut expression ensures that only methods returning a
+     * `java.util.List`, `Stream`, `Iterator`, `Iterable` or an array
+     * and annotated with `@FilterList` are advised. Lazy results are filtered
+     * as their elements are pulled.
+     *
+     * @param joinPoint             The join point representing the method execution.
+     * @param filterListAnnotation The instance of the @FilterList annotation.
+     * @return The method's result, without the elements not matching the predicate.
+     * @throws Throwable if the original method execution throws an exception.
+     */
+    @Around("@annotation(filterListAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()")
+    public Object filterList(ProceedingJoinPoint joinPoint, FilterList filterListAnnotation) throws Throwable {
+        if (log.isDebugEnabled()) {
+            log.debug(">>> FilterListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
+        }
+
+        // Proceed with the original method execution and filter its result, unless
+        // another Tambak aspect applies the fused plan.
+        return advise(joinPoint, FilterList.class);
+    }
+}
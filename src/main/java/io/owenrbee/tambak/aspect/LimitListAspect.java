@@ -0,0 +1,49 @@
+package io.owenrbee.tambak.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.owenrbee.tambak.annotation.LimitList;
+import io.owenrbee.tambak.support.TransformPlan;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that intercepts methods annotated with @LimitList.
+ * If the intercepted method returns a List, this aspect returns a sub-list view
+ * of the requested page to the caller.
+ * <p>
+ * The page is taken last in the {@link TransformPlan}, after all other
+ * transformations of the method.
+ */
+@Aspect // Declares this class as an Aspect
+@Component // Makes this a Spring component
+@Order(TambakAspectOrder.LIMIT_LIST)
+@Slf4j
+public class LimitListAspect extends AbstractTambakAspect {
+
+    /**
+     * Around advice that intercepts calls to methods annotated with @LimitList.
+     * The pointcut expression ensures that only methods returning a
+     * `java.util.List`, `Stream`, `Iterator` or `Iterable`
+     * and annotated with `@LimitList` are advised. Lazy results stop pulling
+     * from their source once the page is complete.
+     *
+     * @param joinPoint            The join point representing the method execution.
+     * @param limitListAnnotation The instance of the @LimitList annotation.
+     * @return The requested page of the method's result.
+     * @throws Throwable if the original method execution throws an exception.
+     */
+    @Around("@annotation(limitListAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()")
+    public Object limitList(ProceedingJoinPoint joinPoint, LimitList limitListAnnotation) throws Throwable {
+        if (log.isDebugEnabled()) {
+            log.debug(">>> LimitListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
+        }
+
+        // Proceed with the original method execution and cut its result to the
+        // page, unless another Tambak aspect applies the fused plan.
+        return advise(joinPoint, LimitList.class);
+    }
+}
@@ -3,65 +3,57 @@ package io.owenrbee.tambak.aspect;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import io.owenrbee.tambak.annotation.MustNotNullList;
+import io.owenrbee.tambak.support.TransformPlan;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Aspect that intercepts methods annotated with @MustNotNullList.
  * If the intercepted method returns {@code null}, this aspect replaces the
- * {@code null} with an empty {@link List}. The mutability of the new list
- * is determined by the {@code modifiable} attribute of the annotation.
+ * {@code null} with an empty {@link List}, or an empty value of whichever
+ * container type the method returns. The mutability of the new value is
+ * determined by the {@code modifiable} attribute of the annotation.
+ * <p>
+ * The null guard comes first in the {@link TransformPlan} order, so when other
+ * Tambak annotations are stacked on the same method this aspect applies all of
+ * their transformations in a single pass.
  */
 @Aspect // Declares this class as an Aspect
 @Component // Makes this a Spring component
+@Order(TambakAspectOrder.MUST_NOT_NULL_LIST)
 @Slf4j
-public class MustNotNullListAspect {
+public class MustNotNullListAspect extends AbstractTambakAspect {
 
     /**
      * Around advice that intercepts calls to methods annotated
      * with @MustNotNullList.
-     * The pointcut expression ensures that only methods returning a {@link List}
-     * and annotated with {@code @MustNotNullList} are advised.
+     * The pointcut expression ensures that only methods returning a {@link List},
+     * {@code Stream}, {@code Iterator} or {@code Iterable}, a future or publisher,
+     * or a {@code Collection}, {@code Set}, {@code Map}, {@code Optional} or
+     * array, and annotated with {@code @MustNotNullList} are advised.
      *
      * @param joinPoint                 The join point representing the method
      *                                  execution.
      * @param mustNotNullListAnnotation The instance of the @MustNotNullList
      *                                  annotation.
-     * @return The result of the method execution, guaranteed to be a non-null List.
+     * @return The result of the method execution, guaranteed to be non-null.
      * @throws Throwable if the original method execution throws an exception.
      */
-    @Around("@annotation(mustNotNullListAnnotation) && execution(java.util.List *(..))")
+    @Around("@annotation(mustNotNullListAnnotation) && (io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()"
+            + " || io.owenrbee.tambak.aspect.TambakPointcuts.nullableResult())")
     public Object ensureNotNullList(ProceedingJoinPoint joinPoint, MustNotNullList mustNotNullListAnnotation)
             throws Throwable {
-        log.debug(">>> MustNotNullListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
-
-        // Cast to MethodSignature to access getReturnType()
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-
-        // Proceed with the original method execution
-        Object result = joinPoint.proceed();
-
-        // Check if the result is null.
-        // Also check if the method indeed returns a List (type safety).
-        if (result == null && List.class.isAssignableFrom(signature.getReturnType())) {
-            log.debug(">>> MustNotNullListAspect: Original method returned NULL for: {}",
-                    joinPoint.getSignature().toShortString());
-            if (mustNotNullListAnnotation.modifiable()) {
-                log.debug(">>> MustNotNullListAspect: Returning new modifiable empty list.");
-                return new ArrayList<>(); // Return a modifiable empty list
-            } else {
-                log.debug(">>> MustNotNullListAspect: Returning unmodifiable empty list.");
-                return Collections.emptyList(); // Return an unmodifiable empty list
-            }
+        if (log.isDebugEnabled()) {
+            log.debug(">>> MustNotNullListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
         }
 
-        return result; // Return the original result if not null or not a List
+        // Proceed with the original method execution; a null result is replaced by
+        // an empty one. The null guard always leads a fused plan.
+        return advise(joinPoint, MustNotNullList.class);
     }
 }
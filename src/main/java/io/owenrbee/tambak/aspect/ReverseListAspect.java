@@ -1,26 +1,31 @@
 package io.owenrbee.tambak.aspect;
 
-import java.util.Collections;
-import java.util.List;
-
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import io.owenrbee.tambak.annotation.ReverseList;
+import io.owenrbee.tambak.support.TransformPlan;
 import lombok.extern.slf4j.Slf4j;
 
 @Aspect
 @Component
+@Order(TambakAspectOrder.REVERSE_LIST)
 @Slf4j
-public class ReverseListAspect {
+public class ReverseListAspect extends AbstractTambakAspect {
 
     /**
      * Around advice that intercepts calls to methods annotated with @Reverse.
      * The pointcut expression ensures that only methods returning a
-     * `java.util.List`
-     * and annotated with `@Reverse` are advised.
+     * `java.util.List`, `Stream`, `Iterator` or `Iterable`
+     * and annotated with `@Reverse` are advised. Lazy results are reversed
+     * when their first element is pulled.
+     * <p>
+     * If the method carries other Tambak annotations as well, the reversal is
+     * part of a fused {@link TransformPlan} that is applied by the aspect of the
+     * first annotation in plan order.
      *
      * @param joinPoint         The join point representing the method execution,
      *                          allowing
@@ -34,31 +39,15 @@ public class ReverseListAspect {
      * @throws Throwable if the original method execution throws an exception, it's
      *                   rethrown.
      */
-    @Around("@annotation(reverseAnnotation) && execution(java.util.List *(..))")
+    @Around("@annotation(reverseAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()")
     public Object reverseList(ProceedingJoinPoint joinPoint, ReverseList reverseAnnotation) throws Throwable {
-        // Logging for demonstration purposes, showing when the aspect is active
-        log.debug(">>> ReverseListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
-
-        // Proceed with the original method execution. This executes the method
-        // that was annotated with @Reverse.
-        Object result = joinPoint.proceed();
-
-        // Check if the result obtained from the original method is an instance of List.
-        // This ensures type safety before attempting to reverse.
-        if (result instanceof List) {
-            log.debug(">>> ReverseListAspect: Reversing the list returned by: {}",
-                    joinPoint.getSignature().toShortString());
-            // Cast the result to a List of unknown type (using wildcard ?) as we only need
-            // to call the static reverse method which doesn't care about element type.
-            List<?> list = (List<?>) result;
-            Collections.reverse(list); // Reverse the list in-place.
-        } else {
-            // This case should theoretically not be hit if the 'execution' pointcut
-            // is precise, but acts as a safeguard and for clearer logging.
-            log.warn(">>> ReverseListAspect: Method did not return a List or returned null, no reversal applied.");
+        // Logging for demonstration purposes, showing when the aspect is active.
+        if (log.isDebugEnabled()) {
+            log.debug(">>> ReverseListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
         }
 
-        // Return the (potentially reversed) result to the original caller.
-        return result;
+        // Proceed with the original method execution and reverse its result, unless
+        // another Tambak aspect applies the fused plan including the reversal.
+        return advise(joinPoint, ReverseList.class);
     }
 }
@@ -0,0 +1,49 @@
+package io.owenrbee.tambak.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.owenrbee.tambak.annotation.SortedList;
+import io.owenrbee.tambak.support.TransformPlan;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspect that intercepts methods annotated with @SortedList.
+ * If the intercepted method returns a List, this aspect sorts it, keeping only
+ * the top elements when a limit is set, before returning it to the caller.
+ * <p>
+ * Sorting runs after de-duplication and before reversal in the
+ * {@link TransformPlan}, so stacked annotations sort the unique elements only.
+ */
+@Aspect // Declares this class as an Aspect
+@Component // Makes this a Spring component
+@Order(TambakAspectOrder.SORTED_LIST)
+@Slf4j
+public class SortedListAspect extends AbstractTambakAspect {
+
+    /**
+     * Around advice that intercepts calls to methods annotated with @SortedList.
+     * The pointcut expression ensures that only methods returning a
+     * `java.util.List`, `Stream`, `Iterator` or `Iterable`
+     * and annotated with `@SortedList` are advised. Lazy results are buffered
+     * and sorted when their first element is pulled.
+     *
+     * @param joinPoint            The join point representing the method execution.
+     * @param sortedListAnnotation The instance of the @SortedList annotation.
+     * @return The result of the method execution, sorted.
+     * @throws Throwable if the original method execution throws an exception.
+     */
+    @Around("@annotation(sortedListAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()")
+    public Object sortList(ProceedingJoinPoint joinPoint, SortedList sortedListAnnotation) throws Throwable {
+        if (log.isDebugEnabled()) {
+            log.debug(">>> SortedListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
+        }
+
+        // Proceed with the original method execution and sort its result, unless
+        // another Tambak aspect applies the fused plan.
+        return advise(joinPoint, SortedList.class);
+    }
+}
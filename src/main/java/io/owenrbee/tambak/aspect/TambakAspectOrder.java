@@ -0,0 +1,47 @@
+package io.owenrbee.tambak.aspect;
+
+/**
+ * {@link org.springframework.core.annotation.Order} values of the Tambak
+ * aspects, outermost first. They follow the order in which the transformations
+ * are applied (see {@link io.owenrbee.tambak.support.TransformPlan}), which
+ * makes the outermost Tambak advice of a method the one applying its plan.
+ * <p>
+ * {@link DistinctAcrossCallsAspect} comes first, so that it filters every
+ * result, cached or not. {@link CachedListAspect} comes next, so that a cache
+ * hit skips every other Tambak advice.
+ * <p>
+ * Application aspects can use these values to position themselves around or
+ * inside the Tambak advice.
+ */
+public final class TambakAspectOrder {
+
+    /** Order of the {@link DistinctAcrossCallsAspect}. */
+    public static final int DISTINCT_ACROSS_CALLS = 25;
+
+    /** Order of the {@link CachedListAspect}. */
+    public static final int CACHED_LIST = 50;
+
+    /** Order of the {@link MustNotNullListAspect}. */
+    public static final int MUST_NOT_NULL_LIST = 100;
+
+    /** Order of the {@link FilterListAspect}. */
+    public static final int FILTER_LIST = 150;
+
+    /** Order of the {@link UniqueListAspect}. */
+    public static final int UNIQUE_LIST = 200;
+
+    /** Order of the {@link SortedListAspect}. */
+    public static final int SORTED_LIST = 250;
+
+    /** Order of the {@link ReverseListAspect}. */
+    public static final int REVERSE_LIST = 300;
+
+    /** Order of the {@link LimitListAspect}. */
+    public static final int LIMIT_LIST = 400;
+
+    /** Order of the {@link CompactListAspect}. */
+    public static final int COMPACT_LIST = 450;
+
+    private TambakAspectOrder() {
+    }
+}
@@ -0,0 +1,24 @@
+package io.owenrbee.tambak.aspect;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+
+/**
+ * Order of the Tambak advice when the aspects are woven by AspectJ, at load
+ * time or compile time. AspectJ ignores
+ * {@link org.springframework.core.annotation.Order}, so without this
+ * declaration the advice of a method with several Tambak annotations would run
+ * in an undefined order, and {@link DistinctAcrossCallsAspect} and
+ * {@link CachedListAspect} would not reliably wrap the others.
+ * <p>
+ * Keep in sync with {@link TambakAspectOrder}, which orders the same aspects
+ * for Spring AOP proxies.
+ */
+@Aspect
+@DeclarePrecedence("io.owenrbee.tambak.aspect.DistinctAcrossCallsAspect, io.owenrbee.tambak.aspect.CachedListAspect, "
+        + "io.owenrbee.tambak.aspect.MustNotNullListAspect, io.owenrbee.tambak.aspect.FilterListAspect, "
+        + "io.owenrbee.tambak.aspect.UniqueListAspect, io.owenrbee.tambak.aspect.SortedListAspect, "
+        + "io.owenrbee.tambak.aspect.ReverseListAspect, io.owenrbee.tambak.aspect.LimitListAspect, "
+        + "io.owenrbee.tambak.aspect.CompactListAspect")
+public class TambakAspectPrecedence {
+}
@@ -0,0 +1,77 @@
+package io.owenrbee.tambak.aspect;
+
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * Named pointcuts shared by the Tambak aspects.
+ */
+public final class TambakPointcuts {
+
+    private TambakPointcuts() {
+    }
+
+    /**
+     * Execution of a method declared to return exactly {@link java.util.List}.
+     * Implementation types such as {@code ArrayList} are left out: the
+     * transformations may return views, packed or unmodifiable lists, which
+     * such a method could not hand back.
+     */
+    @Pointcut("execution(java.util.List *(..))")
+    public void listResult() {
+    }
+
+    /**
+     * Execution of a method whose declared return type can be transformed
+     * element by element: a {@link java.util.List}, which is transformed
+     * eagerly, or a {@link java.util.stream.Stream}, {@link java.util.Iterator}
+     * or {@link Iterable}, which are transformed lazily as elements are pulled.
+     */
+    @Pointcut("listResult() || execution(java.util.stream.Stream *(..))"
+            + " || execution(java.util.Iterator *(..)) || execution(java.lang.Iterable *(..))")
+    public void sequenceResult() {
+    }
+
+    /**
+     * Execution of a method returning an array, such as {@code int[]},
+     * {@code long[]} or {@code T[]}, which is transformed in place or into a
+     * trimmed copy, without boxing primitive elements. A bare {@code *[]} only
+     * matches primitive and {@code java.lang} component types, hence the
+     * second, package-qualified pattern.
+     */
+    @Pointcut("execution(*[] *(..)) || execution(*..*[] *(..))")
+    public void arrayResult() {
+    }
+
+    /**
+     * Execution of a method returning an asynchronous result: a
+     * {@link java.util.concurrent.CompletableFuture} or
+     * {@link java.util.concurrent.CompletionStage}, or a Reactor {@code Flux} or
+     * {@code Mono}. Reactor types are matched by package so that the pointcut
+     * also parses when Reactor is not on the classpath.
+     */
+    @Pointcut("execution(java.util.concurrent.CompletableFuture *(..))"
+            + " || execution(java.util.concurrent.CompletionStage *(..))"
+            + " || execution(reactor.core.publisher.* *(..))")
+    public void asyncResult() {
+    }
+
+    /**
+     * Execution of a method returning another kind of container the null guard
+     * can substitute an empty instance for: a {@link java.util.Collection},
+     * {@link java.util.Set}, {@link java.util.Map}, {@link java.util.Optional}
+     * or an array of any component type.
+     */
+    @Pointcut("execution(java.util.Collection *(..)) || execution(java.util.Set+ *(..))"
+            + " || execution(java.util.Map+ *(..)) || execution(java.util.Optional *(..))"
+            + " || execution(*[] *(..)) || execution(*..*[] *(..))")
+    public void nullableResult() {
+    }
+
+    /**
+     * Execution of a method whose result the Tambak transformations support,
+     * either directly or once it completes.
+     */
+    @Pointcut("sequenceResult() || arrayResult() || asyncResult()")
+    public void transformableResult() {
+    }
+}
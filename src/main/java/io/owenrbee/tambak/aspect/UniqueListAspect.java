@@ -3,33 +3,35 @@ package io.owenrbee.tambak.aspect;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import io.owenrbee.tambak.annotation.UniqueList;
+import io.owenrbee.tambak.support.TransformPlan;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
-
 /**
  * Aspect that intercepts methods annotated with @UniqueList.
  * If the intercepted method returns a List, this aspect removes duplicate
  * elements
  * from the List while preserving the original insertion order, before returning
  * it to the caller.
+ * <p>
+ * When the method also carries {@code @ReverseList}, the de-duplication and the
+ * reversal are applied by this aspect as one fused {@link TransformPlan}.
  */
 @Aspect // Declares this class as an Aspect
 @Component // Makes this a Spring component
+@Order(TambakAspectOrder.UNIQUE_LIST)
 @Slf4j
-public class UniqueListAspect {
+public class UniqueListAspect extends AbstractTambakAspect {
 
     /**
      * Around advice that intercepts calls to methods annotated with @UniqueList.
      * The pointcut expression ensures that only methods returning a
-     * `java.util.List`
-     * and annotated with `@UniqueList` are advised.
+     * `java.util.List`, `Stream`, `Iterator` or `Iterable`
+     * and annotated with `@UniqueList` are advised. Lazy results are
+     * de-duplicated incrementally as their elements are pulled.
      *
      * @param joinPoint            The join point representing the method execution.
      * @param uniqueListAnnotation The instance of the @UniqueList annotation.
@@ -37,30 +39,14 @@ public class UniqueListAspect {
      *         List.
      * @throws Throwable if the original method execution throws an exception.
      */
-    @Around("@annotation(uniqueListAnnotation) && execution(java.util.List *(..))")
+    @Around("@annotation(uniqueListAnnotation) && io.owenrbee.tambak.aspect.TambakPointcuts.transformableResult()")
     public Object makeListUnique(ProceedingJoinPoint joinPoint, UniqueList uniqueListAnnotation) throws Throwable {
-        log.debug(">>> UniqueListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
-
-        // Proceed with the original method execution
-        Object result = joinPoint.proceed();
-
-        // Check if the result is a List and remove duplicates
-        if (result instanceof List) {
-            log.debug(">>> UniqueListAspect: Removing duplicates from list returned by: {}",
-                    joinPoint.getSignature().toShortString());
-            List<?> list = (List<?>) result;
-
-            // Use LinkedHashSet to maintain insertion order while removing duplicates
-            Set<Object> uniqueElements = new LinkedHashSet<>(list);
-
-            // Create a new ArrayList from the LinkedHashSet to preserve order and return as
-            // List
-            return new ArrayList<>(uniqueElements);
-        } else {
-            log.debug(
-                    ">>> UniqueListAspect: Method did not return a List or returned null, no uniqueness applied.");
+        if (log.isDebugEnabled()) {
+            log.debug(">>> UniqueListAspect: Intercepting method: {}", joinPoint.getSignature().toShortString());
         }
 
-        return result; // Return the (potentially modified) result
+        // Proceed with the original method execution and remove duplicates from its
+        // result, unless another Tambak aspect applies the fused plan.
+        return advise(joinPoint, UniqueList.class);
     }
 }
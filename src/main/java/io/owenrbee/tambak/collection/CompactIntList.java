@@ -0,0 +1,123 @@
+package io.owenrbee.tambak.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of {@code Integer}s stored as an {@code int[]}, produced by
+ * {@link io.owenrbee.tambak.annotation.CompactList}. Elements are boxed on
+ * {@link #get(int)} only; {@link #getInt(int)} and {@link #toIntArray()} read
+ * them without boxing. Equal to any other list with the same elements.
+ */
+public final class CompactIntList extends AbstractList<Integer> implements RandomAccess {
+
+    private final int[] values;
+
+    private CompactIntList(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values the elements, copied.
+     * @return an immutable list of the given values.
+     */
+    public static CompactIntList copyOf(int[] values) {
+        return new CompactIntList(values.clone());
+    }
+
+    /**
+     * Wraps an array without copying it, for callers that hand over an array
+     * nobody else references.
+     *
+     * @param values the elements; must not be modified afterwards.
+     * @return an immutable list backed by the array.
+     */
+    public static CompactIntList wrap(int[] values) {
+        return new CompactIntList(Objects.requireNonNull(values, "values"));
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param index the element index.
+     * @return the element, unboxed.
+     */
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Integer value) {
+            int v = value;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == v) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Integer value) {
+            int v = value;
+            for (int i = values.length - 1; i >= 0; i--) {
+                if (values[i] == v) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * @return a copy of the elements.
+     */
+    public int[] toIntArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = values[i];
+        }
+        return array;
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as List.hashCode, without boxing.
+        int hash = 1;
+        for (int value : values) {
+            hash = 31 * hash + value;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof CompactIntList other) {
+            return Arrays.equals(values, other.values);
+        }
+        return super.equals(o);
+    }
+}
@@ -0,0 +1,59 @@
+package io.owenrbee.tambak.collection;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Modifiable set that allocates its storage on the first insertion.
+ * <p>
+ * A {@link java.util.HashSet} allocates its backing {@code HashMap} up front;
+ * this set is a single small object until an element is added, after which it
+ * delegates to a {@link LinkedHashSet}, so elements iterate in insertion order.
+ * Returned by {@link io.owenrbee.tambak.annotation.MustNotNullList} in place of
+ * a {@code null} set, which callers usually only read. Not thread-safe.
+ *
+ * @param <E> the element type.
+ */
+public class LazySet<E> extends AbstractSet<E> {
+
+    /** The elements, {@code null} until the first insertion. */
+    private Set<E> elements;
+
+    @Override
+    public Iterator<E> iterator() {
+        return elements != null ? elements.iterator() : Collections.emptyIterator();
+    }
+
+    @Override
+    public int size() {
+        return elements != null ? elements.size() : 0;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return elements != null && elements.contains(element);
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (elements == null) {
+            elements = new LinkedHashSet<>();
+        }
+        return elements.add(element);
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return elements != null && elements.remove(element);
+    }
+
+    @Override
+    public void clear() {
+        if (elements != null) {
+            elements.clear();
+        }
+    }
+}
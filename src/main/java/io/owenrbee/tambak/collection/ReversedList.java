@@ -0,0 +1,94 @@
+package io.owenrbee.tambak.collection;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Reversed view of a list: element {@code i} of the view is element
+ * {@code size() - 1 - i} of the backing list.
+ * <p>
+ * Creating the view is O(1) and allocates nothing but the view itself. Reads
+ * and {@link #set(int, Object)} go straight to the backing list, so the view
+ * always reflects its current content; structural changes through the view are
+ * not supported. Views of {@link RandomAccess} lists are {@link RandomAccess}
+ * too, and reversing a view again returns the original list.
+ *
+ * @param <E> the element type.
+ */
+public class ReversedList<E> extends AbstractList<E> {
+
+    final List<E> source;
+
+    ReversedList(List<E> source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns a reversed view of the given list.
+     *
+     * @param <E>  the element type.
+     * @param list the list to view back to front.
+     * @return the reversed view, or the original list if {@code list} is itself a
+     *         reversed view.
+     */
+    public static <E> List<E> of(List<E> list) {
+        Objects.requireNonNull(list, "list");
+        if (list instanceof ReversedList<E> reversed) {
+            return reversed.source;
+        }
+        return list instanceof RandomAccess ? new RandomAccessReversedList<>(list) : new ReversedList<>(list);
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(sourceIndex(index));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return source.set(sourceIndex(index), element);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        if (source instanceof RandomAccess) {
+            return super.iterator();
+        }
+        // Walk sequential lists backwards instead of calling get(i) per element.
+        ListIterator<E> backwards = source.listIterator(source.size());
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return backwards.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return backwards.previous();
+            }
+        };
+    }
+
+    private int sourceIndex(int index) {
+        int size = source.size();
+        Objects.checkIndex(index, size);
+        return size - 1 - index;
+    }
+
+    private static final class RandomAccessReversedList<E> extends ReversedList<E> implements RandomAccess {
+
+        RandomAccessReversedList(List<E> source) {
+            super(source);
+        }
+    }
+}
@@ -5,9 +5,10 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.EnableLoadTimeWeaving;
+import org.springframework.context.annotation.Import;
 
 /**
  * Convenience annotation to enable the Tambak library functionality.
@@ -16,29 +17,55 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
  * <ul>
  * <li>{@link Configuration}: Marks this class as a source of bean
  * definitions.</li>
- * <li>{@link EnableAspectJAutoProxy}: Enables Spring's support for detecting
- * and
- * registering beans for which Spring should create proxies to advise method
- * calls.
- * {@code proxyTargetClass = true} ensures CGLIB proxies are used for
- * class-based
- * proxying.</li>
- * <li>{@link ComponentScan}: Scans the package where the aspect implementation
- * resides (`io.owenrbee.tambak.aspect`), ensuring it's discovered and
- * registered
- * as a Spring bean.</li>
+ * <li>{@link Import}: Imports the configuration matching the selected
+ * {@link #mode() weaving mode}. In the default {@link WeavingMode#PROXY} mode
+ * this is {@link EnableAspectJAutoProxy} with {@code proxyTargetClass = true},
+ * so CGLIB proxies are used for class-based proxying, plus the aspect
+ * implementations (`io.owenrbee.tambak.aspect`), registered as Spring beans by
+ * name without scanning the classpath. An aspect is skipped when its annotation
+ * is not on the classpath or it is switched off with
+ * {@code tambak.<annotation>.enabled=false}.</li>
  * </ul>
  * <p>
  * Developers can simply add {@code @EnableTambakAnnotations} to their Spring
  * Boot
- * application class or any configuration class to activate the list reversal
- * aspect.
+ * application class or any configuration class to activate the Tambak
+ * aspects. Spring Boot applications get the {@link WeavingMode#PROXY} mode
+ * without it too, through {@link TambakAutoConfiguration}.
+ * <p>
+ * With {@link WeavingMode#LOAD_TIME} or {@link WeavingMode#COMPILE_TIME} the
+ * aspects are woven directly into the annotated classes by AspectJ instead: hot
+ * internal calls, self-invocations and non-public methods are then advised
+ * without any proxy dispatch. Load-time weaving uses
+ * {@link EnableLoadTimeWeaving} and needs a weaving agent; compile-time weaving
+ * needs the Tambak jar on the {@code ajc} aspect path, for example:
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *   &lt;groupId&gt;dev.aspectj&lt;/groupId&gt;
+ *   &lt;artifactId&gt;aspectj-maven-plugin&lt;/artifactId&gt;
+ *   &lt;configuration&gt;
+ *     &lt;aspectLibraries&gt;
+ *       &lt;aspectLibrary&gt;
+ *         &lt;groupId&gt;io.github.owenrb&lt;/groupId&gt;
+ *         &lt;artifactId&gt;tambak&lt;/artifactId&gt;
+ *       &lt;/aspectLibrary&gt;
+ *     &lt;/aspectLibraries&gt;
+ *   &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </pre>
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE) // This annotation can be applied to classes/interfaces
 @Configuration // Marks this as a Spring configuration class
-@EnableAspectJAutoProxy(proxyTargetClass = true) // Enable AspectJ auto-proxying
-@ComponentScan("io.owenrbee.tambak.aspect") // Scan for the Tambak aspect
+@Import(TambakConfigurationSelector.class) // Import the configuration for the selected mode
 public @interface EnableTambakAnnotations {
 
+    /**
+     * Specifies how the Tambak aspects are applied.
+     *
+     * @return the weaving mode. Defaults to {@link WeavingMode#PROXY}.
+     */
+    WeavingMode mode() default WeavingMode.PROXY;
+
 }
@@ -0,0 +1,100 @@
+package io.owenrbee.tambak.config;
+
+import java.util.Arrays;
+
+import org.aspectj.lang.Aspects;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.instrument.classloading.InstrumentationLoadTimeWeaver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exposes the AspectJ-managed singleton of every Tambak aspect as a Spring bean,
+ * for the {@link WeavingMode#LOAD_TIME} and {@link WeavingMode#COMPILE_TIME}
+ * modes.
+ * <p>
+ * The beans are obtained through {@link Aspects#aspectOf(Class)}, so the woven
+ * code and the Spring context share the same instance. Aspect classes are
+ * referenced by name only: they must not be loaded before the weaver is active.
+ * Aspects disabled or unavailable per {@link TambakAspects} are skipped, and
+ * their annotations switched off in the
+ * {@link io.owenrbee.tambak.support.TambakSettings}: the woven advice runs
+ * whether or not a bean exists, and must then find nothing to do.
+ * Spring AOP ignores aspects finished by AspectJ, so these beans never cause a
+ * proxy to be created.
+ */
+@Slf4j
+public class TambakAspectJRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware, BeanClassLoaderAware {
+
+    /**
+     * The AspectJ configuration listing the Tambak aspects. It is not at one of
+     * the locations the weaver reads by default, so that the aspects are only
+     * woven when {@link WeavingMode#LOAD_TIME} asks for it.
+     */
+    public static final String AOP_XML = "META-INF/tambak-aop.xml";
+
+    /** System property holding the configuration files the weaver reads. */
+    static final String CONFIGURATION_PROPERTY = "org.aspectj.weaver.loadtime.configuration";
+
+    /** The configuration files the weaver reads when the property is not set. */
+    private static final String DEFAULT_CONFIGURATION = "META-INF/aop.xml;META-INF/aop-ajc.xml;org/aspectj/aop.xml";
+
+    private Environment environment;
+
+    private ClassLoader beanClassLoader;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.beanClassLoader = classLoader;
+    }
+
+    /**
+     * Adds {@link #AOP_XML} to the configuration files of the weavers set up
+     * from now on, as Spring's {@code @EnableLoadTimeWeaving} does once the
+     * context starts. The AspectJ weaver agent sets up the weaver of the
+     * application class loader before {@code main} runs, so it needs the
+     * property on the command line instead.
+     */
+    static void includeAopXml() {
+        String configuration = System.getProperty(CONFIGURATION_PROPERTY);
+        if (configuration != null && Arrays.asList(configuration.split(";")).contains(AOP_XML)) {
+            return;
+        }
+        if (!InstrumentationLoadTimeWeaver.isInstrumentationAvailable()) {
+            log.warn(">>> TambakAspectJRegistrar: Start the JVM with -D{}={};{} for the AspectJ weaver agent to weave"
+                    + " the Tambak aspects.", CONFIGURATION_PROPERTY,
+                    configuration != null ? configuration : "META-INF/aop.xml", AOP_XML);
+        }
+        System.setProperty(CONFIGURATION_PROPERTY,
+                (configuration != null ? configuration : DEFAULT_CONFIGURATION) + ";" + AOP_XML);
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        TambakAspects.applySettings(environment);
+        TambakAspects.applyEnablement(beanClassLoader, environment);
+        TambakAspects.registerSettingsListener(registry);
+        for (String aspectClassName : TambakAspects.ASPECT_CLASS_NAMES) {
+            String beanName = TambakAspects.beanName(aspectClassName);
+            if (registry.containsBeanDefinition(beanName)
+                    || !TambakAspects.isEnabled(aspectClassName, beanClassLoader, environment)) {
+                continue;
+            }
+            RootBeanDefinition definition = new RootBeanDefinition(Aspects.class);
+            definition.setFactoryMethodName("aspectOf");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(0, aspectClassName);
+            registry.registerBeanDefinition(beanName, definition);
+        }
+    }
+}
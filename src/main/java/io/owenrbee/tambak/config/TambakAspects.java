@@ -0,0 +1,140 @@
+package io.owenrbee.tambak.config;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import io.owenrbee.tambak.support.TambakSettings;
+
+/**
+ * The Tambak aspects, referenced by class name, and the conditions under which
+ * each of them is registered:
+ * <ul>
+ * <li>any optional library it needs is on the classpath,</li>
+ * <li>it is not disabled with {@code tambak.<annotation>.enabled=false}, for
+ * example {@code tambak.reverse-list.enabled=false}.</li>
+ * </ul>
+ * Checking these does not load the aspect classes, so no classpath scanning
+ * and no premature class loading happen at startup.
+ */
+final class TambakAspects {
+
+    /** All aspects, in the order of {@code META-INF/tambak-aop.xml}. */
+    static final String[] ASPECT_CLASS_NAMES = {
+            "io.owenrbee.tambak.aspect.DistinctAcrossCallsAspect",
+            "io.owenrbee.tambak.aspect.CachedListAspect",
+            "io.owenrbee.tambak.aspect.MustNotNullListAspect",
+            "io.owenrbee.tambak.aspect.FilterListAspect",
+            "io.owenrbee.tambak.aspect.UniqueListAspect",
+            "io.owenrbee.tambak.aspect.SortedListAspect",
+            "io.owenrbee.tambak.aspect.ReverseListAspect",
+            "io.owenrbee.tambak.aspect.LimitListAspect",
+            "io.owenrbee.tambak.aspect.CompactListAspect",
+    };
+
+    /** Optional aspects, with a class that must be present for them to work. */
+    private static final Map<String, String> REQUIRED_CLASS_NAMES = Map.of(
+            "io.owenrbee.tambak.aspect.CachedListAspect", "com.github.benmanes.caffeine.cache.Caffeine");
+
+    private static final String ANNOTATION_PACKAGE = "io.owenrbee.tambak.annotation.";
+
+    private TambakAspects() {
+    }
+
+    /**
+     * @param aspectClassName the aspect class name.
+     * @return the bean name of the aspect, e.g. {@code reverseListAspect}.
+     */
+    static String beanName(String aspectClassName) {
+        return StringUtils.uncapitalize(ClassUtils.getShortName(aspectClassName));
+    }
+
+    /**
+     * @param aspectClassName the aspect class name.
+     * @return the property switching the aspect on or off, e.g.
+     *         {@code tambak.reverse-list.enabled}.
+     */
+    static String enabledProperty(String aspectClassName) {
+        String annotation = annotationName(aspectClassName).substring(ANNOTATION_PACKAGE.length());
+        return "tambak." + annotation.replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase() + ".enabled";
+    }
+
+    /**
+     * @param aspectClassName the aspect class name.
+     * @param classLoader     the class loader to check the classpath with.
+     * @param environment     the environment holding the enablement properties.
+     * @return {@code true} if the aspect should be registered.
+     */
+    static boolean isEnabled(String aspectClassName, ClassLoader classLoader, Environment environment) {
+        String requiredClassName = REQUIRED_CLASS_NAMES.get(aspectClassName);
+        return (requiredClassName == null || ClassUtils.isPresent(requiredClassName, classLoader))
+                && environment.getProperty(enabledProperty(aspectClassName), Boolean.class, true);
+    }
+
+    /**
+     * Switches the annotations of the aspects that are not registered off in
+     * {@link TambakSettings}, so that plans are built as if these annotations
+     * were absent.
+     *
+     * @param classLoader the class loader to check the classpath with.
+     * @param environment the environment holding the enablement properties.
+     */
+    static void applyEnablement(ClassLoader classLoader, Environment environment) {
+        List<Class<? extends Annotation>> unregistered = new ArrayList<>();
+        for (String aspectClassName : ASPECT_CLASS_NAMES) {
+            if (!isEnabled(aspectClassName, classLoader, environment)) {
+                unregistered.add(TambakSettings.annotationType(ClassUtils.getShortName(annotationName(aspectClassName))));
+            }
+        }
+        TambakSettings.setUnregistered(unregistered);
+    }
+
+    /**
+     * Applies the {@code tambak.*} settings of the environment to
+     * {@link TambakSettings}. Copy-on-write keeps its current value unless the
+     * property is present; the switched-off annotations are replaced by those
+     * of the {@code tambak.disabled.*} properties.
+     *
+     * @param environment the environment holding the settings.
+     */
+    static void applySettings(Environment environment) {
+        Boolean copyOnWrite = environment.getProperty("tambak.copy-on-write", Boolean.class);
+        if (copyOnWrite != null) {
+            TambakSettings.setCopyOnWrite(copyOnWrite);
+        }
+        Map<String, String[]> patterns = Binder.get(environment)
+                .bind("tambak.disabled", Bindable.mapOf(String.class, String[].class))
+                .orElse(Map.of());
+        Map<Class<? extends Annotation>, List<String>> disabled = new LinkedHashMap<>();
+        patterns.forEach((name, list) -> disabled.put(TambakSettings.annotationType(name), Arrays.asList(list)));
+        TambakSettings.setDisabled(disabled);
+    }
+
+    /**
+     * Registers the {@link TambakSettingsListener}, unless already registered.
+     *
+     * @param registry the registry to register it with.
+     */
+    static void registerSettingsListener(BeanDefinitionRegistry registry) {
+        String beanName = beanName(TambakSettingsListener.class.getName());
+        if (!registry.containsBeanDefinition(beanName)) {
+            registry.registerBeanDefinition(beanName, new RootBeanDefinition(TambakSettingsListener.class));
+        }
+    }
+
+    private static String annotationName(String aspectClassName) {
+        String shortName = ClassUtils.getShortName(aspectClassName);
+        return ANNOTATION_PACKAGE + shortName.substring(0, shortName.length() - "Aspect".length());
+    }
+}
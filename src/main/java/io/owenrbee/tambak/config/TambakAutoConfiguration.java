@@ -0,0 +1,29 @@
+package io.owenrbee.tambak.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Import;
+
+import io.owenrbee.tambak.metrics.TambakFlightRecorderConfiguration;
+import io.owenrbee.tambak.metrics.TambakMetricsConfiguration;
+
+/**
+ * Auto-configuration applying the Tambak aspects in {@link WeavingMode#PROXY}
+ * mode, as {@link EnableTambakAnnotations} does by default, without the
+ * annotation.
+ * <p>
+ * Every aspect is registered only if its annotation is on the classpath and it
+ * is not switched off with {@code tambak.<annotation>.enabled=false}; all of
+ * them can be switched off with {@code tambak.enabled=false}. Backs off when
+ * the application uses {@link EnableTambakAnnotations}, which then decides the
+ * weaving mode.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "tambak", name = "enabled", matchIfMissing = true)
+@ConditionalOnMissingBean(TambakConfigurationSelector.Marker.class)
+@Import({ TambakProxyConfiguration.class, TambakProxyRegistrar.class, TambakMetricsConfiguration.class,
+        TambakFlightRecorderConfiguration.class })
+public class TambakAutoConfiguration {
+
+}
@@ -0,0 +1,69 @@
+package io.owenrbee.tambak.config;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import io.owenrbee.tambak.annotation.DistinctAcrossCalls;
+import io.owenrbee.tambak.annotation.FilterList;
+import io.owenrbee.tambak.annotation.SortedList;
+import io.owenrbee.tambak.annotation.UniqueList;
+
+/**
+ * Registers reflection hints for the element types of methods de-duplicated or
+ * sorted by a property, or filtered by a SpEL predicate, so that {@code by}
+ * attributes and {@code @FilterList} expressions can be resolved in a native
+ * image. The element type is taken from the declared return type, e.g.
+ * {@code Customer} for {@code List<Customer>} or
+ * {@code CompletableFuture<List<Customer>>}.
+ * <p>
+ * Registered through {@code META-INF/spring/aot.factories}; only used during
+ * ahead-of-time processing.
+ */
+class TambakBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        Class<?> beanClass = registeredBean.getBeanClass();
+        Set<Class<?>> elementTypes = new LinkedHashSet<>();
+        ReflectionUtils.doWithMethods(beanClass, method -> {
+            Class<?> elementType = elementType(method, beanClass);
+            if (elementType != null) {
+                elementTypes.add(elementType);
+            }
+        }, TambakBeanRegistrationAotProcessor::isKeyed);
+        if (elementTypes.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanRegistrationCode) -> elementTypes.forEach(type -> generationContext
+                .getRuntimeHints().reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS));
+    }
+
+    private static boolean isKeyed(Method method) {
+        UniqueList unique = method.getAnnotation(UniqueList.class);
+        SortedList sorted = method.getAnnotation(SortedList.class);
+        DistinctAcrossCalls distinct = method.getAnnotation(DistinctAcrossCalls.class);
+        return (unique != null && !unique.by().isEmpty()) || (sorted != null && !sorted.by().isEmpty())
+                || (distinct != null && !distinct.by().isEmpty()) || method.isAnnotationPresent(FilterList.class);
+    }
+
+    private static Class<?> elementType(Method method, Class<?> beanClass) {
+        ResolvableType type = ResolvableType.forMethodReturnType(method, beanClass);
+        // Unwrap asynchronous results down to the sequence.
+        while (type.resolve() != null && (CompletionStage.class.isAssignableFrom(type.resolve())
+                || "reactor.core.publisher.Mono".equals(type.resolve().getName()))) {
+            type = type.getGeneric(0);
+        }
+        Class<?> elementType = type.getGeneric(0).resolve();
+        return elementType != null && elementType != Object.class ? elementType : null;
+    }
+}
@@ -0,0 +1,57 @@
+package io.owenrbee.tambak.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.ImportSelector;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.instrument.classloading.InstrumentationLoadTimeWeaver;
+
+/**
+ * Selects the configuration to import for {@link EnableTambakAnnotations},
+ * based on its {@link EnableTambakAnnotations#mode() mode} attribute, plus the
+ * optional metrics and Flight Recorder support.
+ */
+public class TambakConfigurationSelector implements ImportSelector {
+
+    @Override
+    public String[] selectImports(AnnotationMetadata importingClassMetadata) {
+        Map<String, Object> attributes = importingClassMetadata
+                .getAnnotationAttributes(EnableTambakAnnotations.class.getName());
+        WeavingMode mode = attributes != null ? (WeavingMode) attributes.get("mode") : WeavingMode.PROXY;
+
+        List<String> imports = new ArrayList<>();
+        switch (mode) {
+            case PROXY -> {
+                imports.add(TambakProxyConfiguration.class.getName());
+                // Imported here rather than by TambakProxyConfiguration, so it runs
+                // after the bean methods of the importing class.
+                imports.add(TambakProxyRegistrar.class.getName());
+            }
+            // With Spring's instrumentation agent, weaving is switched on through the
+            // context; with the AspectJ weaver agent, classes are already woven.
+            case LOAD_TIME -> {
+                // Before the context sets up its weaver.
+                TambakAspectJRegistrar.includeAopXml();
+                imports.add(InstrumentationLoadTimeWeaver.isInstrumentationAvailable()
+                        ? TambakLoadTimeWeavingConfiguration.class.getName()
+                        : TambakAspectJRegistrar.class.getName());
+            }
+            case COMPILE_TIME -> imports.add(TambakAspectJRegistrar.class.getName());
+        }
+        // Referenced by name: it is only loaded if its class conditions match.
+        imports.add("io.owenrbee.tambak.metrics.TambakMetricsConfiguration");
+        imports.add("io.owenrbee.tambak.metrics.TambakFlightRecorderConfiguration");
+        // Tells the auto-configuration to back off.
+        imports.add(Marker.class.getName());
+        return imports.toArray(String[]::new);
+    }
+
+    /**
+     * Bean registered whenever {@link EnableTambakAnnotations} is used, so that
+     * the Tambak auto-configuration does not register the aspects a second time.
+     */
+    public static final class Marker {
+    }
+}
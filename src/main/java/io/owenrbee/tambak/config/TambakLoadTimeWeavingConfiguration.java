@@ -0,0 +1,18 @@
+package io.owenrbee.tambak.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableLoadTimeWeaving;
+import org.springframework.context.annotation.EnableLoadTimeWeaving.AspectJWeaving;
+import org.springframework.context.annotation.Import;
+
+/**
+ * {@link WeavingMode#LOAD_TIME} configuration: switches on Spring's AspectJ
+ * load-time weaving, which picks up the aspects declared in the library's
+ * {@value TambakAspectJRegistrar#AOP_XML}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableLoadTimeWeaving(aspectjWeaving = AspectJWeaving.ENABLED)
+@Import(TambakAspectJRegistrar.class)
+public class TambakLoadTimeWeavingConfiguration {
+
+}
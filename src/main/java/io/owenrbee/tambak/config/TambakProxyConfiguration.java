@@ -0,0 +1,17 @@
+package io.owenrbee.tambak.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * {@link WeavingMode#PROXY} configuration: lets Spring AOP wrap advised beans in
+ * CGLIB proxies. The aspects themselves are registered by
+ * {@link TambakProxyRegistrar}, imported next to this class.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAspectJAutoProxy(proxyTargetClass = true) // Enable AspectJ auto-proxying
+@ImportRuntimeHints(TambakRuntimeHints.class)
+public class TambakProxyConfiguration {
+
+}
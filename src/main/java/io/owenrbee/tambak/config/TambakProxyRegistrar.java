@@ -0,0 +1,55 @@
+package io.owenrbee.tambak.config;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registers the Tambak aspects as regular beans for {@link WeavingMode#PROXY},
+ * without scanning the classpath.
+ * <p>
+ * Aspects disabled or unavailable per {@link TambakAspects} are skipped, and
+ * their annotations switched off in the
+ * {@link io.owenrbee.tambak.support.TambakSettings}, so the other stacked
+ * annotations still apply. Aspects the application already defines a bean for
+ * under the same name are skipped too.
+ * Registrars run after the bean methods of the configuration class importing
+ * them, so such application beans are always seen.
+ */
+public class TambakProxyRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware, BeanClassLoaderAware {
+
+    private Environment environment;
+
+    private ClassLoader beanClassLoader;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.beanClassLoader = classLoader;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        TambakAspects.applySettings(environment);
+        TambakAspects.applyEnablement(beanClassLoader, environment);
+        TambakAspects.registerSettingsListener(registry);
+        for (String aspectClassName : TambakAspects.ASPECT_CLASS_NAMES) {
+            String beanName = TambakAspects.beanName(aspectClassName);
+            if (registry.containsBeanDefinition(beanName)
+                    || !TambakAspects.isEnabled(aspectClassName, beanClassLoader, environment)) {
+                continue;
+            }
+            registry.registerBeanDefinition(beanName,
+                    new RootBeanDefinition(ClassUtils.resolveClassName(aspectClassName, beanClassLoader)));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.owenrbee.tambak.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Runtime hints for running the Tambak aspects in a GraalVM native image.
+ * <p>
+ * Spring AOP reads the advice methods of the aspects and the named pointcuts of
+ * {@code TambakPointcuts} reflectively, and the aspects read the attributes of
+ * the Tambak annotations, which Spring may synthesize as JDK proxies. Hints for
+ * the element types named by {@code by} attributes are contributed per bean by
+ * {@link TambakBeanRegistrationAotProcessor}.
+ */
+public class TambakRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] ANNOTATION_CLASS_NAMES = {
+            "io.owenrbee.tambak.annotation.DistinctAcrossCalls",
+            "io.owenrbee.tambak.annotation.CachedList",
+            "io.owenrbee.tambak.annotation.MustNotNullList",
+            "io.owenrbee.tambak.annotation.FilterList",
+            "io.owenrbee.tambak.annotation.UniqueList",
+            "io.owenrbee.tambak.annotation.SortedList",
+            "io.owenrbee.tambak.annotation.ReverseList",
+            "io.owenrbee.tambak.annotation.LimitList",
+            "io.owenrbee.tambak.annotation.CompactList",
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String aspectClassName : TambakAspects.ASPECT_CLASS_NAMES) {
+            hints.reflection().registerType(TypeReference.of(aspectClassName),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(TypeReference.of("io.owenrbee.tambak.aspect.TambakPointcuts"),
+                MemberCategory.INVOKE_DECLARED_METHODS);
+        for (String annotationClassName : ANNOTATION_CLASS_NAMES) {
+            TypeReference annotation = TypeReference.of(annotationClassName);
+            hints.reflection().registerType(annotation, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(annotation);
+        }
+    }
+}
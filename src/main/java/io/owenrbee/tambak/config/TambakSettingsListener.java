@@ -0,0 +1,35 @@
+package io.owenrbee.tambak.config;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import io.owenrbee.tambak.support.TambakSettings;
+
+/**
+ * Re-applies the {@code tambak.*} properties to {@link TambakSettings} when the
+ * environment changes at run time, for example after a Spring Cloud
+ * {@code /actuator/refresh}. Spring Cloud is matched by event class name, so
+ * it is not needed on the classpath.
+ * <p>
+ * Registered next to the aspects.
+ */
+public class TambakSettingsListener implements ApplicationListener<ApplicationEvent>, EnvironmentAware {
+
+    private static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event.getClass().getName().equals(ENVIRONMENT_CHANGE_EVENT)) {
+            TambakAspects.applySettings(environment);
+        }
+    }
+}
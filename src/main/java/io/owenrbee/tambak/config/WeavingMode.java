@@ -0,0 +1,40 @@
+package io.owenrbee.tambak.config;
+
+/**
+ * How the Tambak aspects are applied to annotated methods.
+ *
+ * @see EnableTambakAnnotations#mode()
+ */
+public enum WeavingMode {
+
+    /**
+     * Spring AOP with CGLIB class-based proxies (the default).
+     * <p>
+     * Only public methods called through the proxy are advised; self-invocations
+     * bypass the aspects.
+     */
+    PROXY,
+
+    /**
+     * AspectJ load-time weaving. The aspects listed in the library's
+     * {@code META-INF/tambak-aop.xml} are woven into classes as they are
+     * loaded, so self-invocations and non-public methods are advised too and no
+     * proxy is created.
+     * <p>
+     * Requires a weaving agent: either {@code -javaagent:aspectjweaver.jar},
+     * together with
+     * {@code -Dorg.aspectj.weaver.loadtime.configuration=META-INF/aop.xml;META-INF/tambak-aop.xml},
+     * or {@code -javaagent:spring-instrument.jar} in which case Spring's
+     * {@code @EnableLoadTimeWeaving} support is switched on automatically.
+     */
+    LOAD_TIME,
+
+    /**
+     * AspectJ compile-time (or post-compile binary) weaving with {@code ajc}.
+     * The Tambak jar has to be declared as an aspect library of the
+     * {@code aspectj-maven-plugin}; Spring only exposes the woven aspect
+     * instances as beans.
+     */
+    COMPILE_TIME
+
+}
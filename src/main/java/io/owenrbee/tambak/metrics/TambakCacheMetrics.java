@@ -0,0 +1,32 @@
+package io.owenrbee.tambak.metrics;
+
+import java.lang.reflect.Method;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.ListCache;
+import io.owenrbee.tambak.support.ListCacheListener;
+
+/**
+ * Binds the cache of every {@link io.owenrbee.tambak.annotation.CachedList}
+ * method to Micrometer's standard cache meters ({@code cache.gets},
+ * {@code cache.evictions}, {@code cache.size}, ...), with the method signature
+ * as the {@code cache} tag.
+ */
+public class TambakCacheMetrics implements ListCacheListener {
+
+    private final MeterRegistry registry;
+
+    /**
+     * @param registry the registry the cache meters are registered with.
+     */
+    public TambakCacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onCacheCreated(Method method, ListCache cache) {
+        CaffeineCacheMetrics.monitor(registry, cache.cache(), AdvisedMethods.signature(method));
+    }
+}
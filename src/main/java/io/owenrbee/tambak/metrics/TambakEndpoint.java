@@ -0,0 +1,111 @@
+package io.owenrbee.tambak.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.owenrbee.tambak.metrics.TambakMetrics.MethodMeters;
+import io.owenrbee.tambak.support.TambakSettings;
+
+/**
+ * Actuator endpoint ({@code /actuator/tambak}) listing every advised method
+ * invoked so far, with its Tambak annotations and a summary of its meters, and
+ * switching annotations on and off per method at run time.
+ */
+@Endpoint(id = "tambak")
+public class TambakEndpoint {
+
+    private final TambakMetrics metrics;
+
+    /**
+     * @param metrics the meters of the advised methods.
+     */
+    public TambakEndpoint(TambakMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Lists the advised methods invoked so far, and the annotations switched
+     * off.
+     *
+     * @return the advised methods and the disabled patterns.
+     */
+    @ReadOperation
+    public AdvisedMethodsDescriptor advisedMethods() {
+        List<AdvisedMethodDescriptor> methods = metrics.advisedMethods().stream()
+                .map(AdvisedMethodDescriptor::of)
+                .sorted(Comparator.comparing(AdvisedMethodDescriptor::signature))
+                .toList();
+        Map<String, List<String>> disabled = new TreeMap<>();
+        TambakSettings.getDisabled().forEach(
+                (annotationType, patterns) -> disabled.put("@" + annotationType.getSimpleName(), patterns));
+        return new AdvisedMethodsDescriptor(methods, disabled);
+    }
+
+    /**
+     * Switches an annotation on or off for the methods matching a pattern, until
+     * the {@code tambak.disabled.*} properties are next applied. Plans are
+     * rebuilt on the next call of each method.
+     *
+     * @param annotation the annotation, e.g. {@code UniqueList} or
+     *                   {@code unique-list}.
+     * @param pattern    a package, class name, {@code Class.method} or
+     *                   {@code *}.
+     * @param enabled    {@code false} to switch the annotation off.
+     */
+    @WriteOperation
+    public void toggle(String annotation, String pattern, boolean enabled) {
+        TambakSettings.setEnabled(TambakSettings.annotationType(annotation), pattern, enabled);
+    }
+
+    /**
+     * Response body of the endpoint.
+     *
+     * @param methods  the advised methods, sorted by signature.
+     * @param disabled the method patterns each annotation is switched off for,
+     *                 keyed by annotation name.
+     */
+    public record AdvisedMethodsDescriptor(List<AdvisedMethodDescriptor> methods,
+            Map<String, List<String>> disabled) {
+    }
+
+    /**
+     * Summary of a single advised method. Times are in microseconds.
+     *
+     * @param signature         the method signature.
+     * @param annotations       the Tambak annotations of the method.
+     * @param invocations       number of invocations.
+     * @param meanOverhead      mean time spent in the Tambak advice.
+     * @param maxOverhead       maximum time spent in the Tambak advice.
+     * @param meanTarget        mean time spent in the method itself.
+     * @param meanInputSize     mean size of the returned collections.
+     * @param meanOutputSize    mean size of the transformed collections.
+     * @param meanUniqueRatio   mean ratio of unique to returned elements, or
+     *                          {@code null} without {@code @UniqueList}.
+     * @param nullSubstitutions number of null results replaced by empty ones.
+     */
+    public record AdvisedMethodDescriptor(String signature, List<String> annotations, long invocations,
+            double meanOverhead, double maxOverhead, double meanTarget, double meanInputSize,
+            double meanOutputSize, Double meanUniqueRatio, long nullSubstitutions) {
+
+        static AdvisedMethodDescriptor of(MethodMeters meters) {
+            DistributionSummary uniqueRatio = meters.getUniqueRatio();
+            return new AdvisedMethodDescriptor(meters.getSignature(), meters.getAnnotations(),
+                    meters.getOverhead().count(),
+                    meters.getOverhead().mean(TimeUnit.MICROSECONDS),
+                    meters.getOverhead().max(TimeUnit.MICROSECONDS),
+                    meters.getTarget().mean(TimeUnit.MICROSECONDS),
+                    meters.getInputSize().mean(),
+                    meters.getOutputSize().mean(),
+                    uniqueRatio != null ? uniqueRatio.mean() : null,
+                    (long) meters.getNullSubstitutions().count());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.owenrbee.tambak.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.TambakObserver;
+import io.owenrbee.tambak.support.TransformPlan;
+import jdk.jfr.EventType;
+
+/**
+ * {@link TambakObserver} committing a {@link TambakInvocationEvent}
+ * ({@value TambakInvocationEvent#NAME}) to Java Flight Recorder for every
+ * invocation whose transformations took at least {@code threshold}, or whose
+ * input or output holds at least {@code sizeThreshold} elements. That
+ * attributes GC pressure and latency spikes to annotated methods in an
+ * always-on recording, without debug logging.
+ * <p>
+ * The observer is only {@link #isActive() active} while a recording has the
+ * event enabled, so without one the aspects do not even take timestamps.
+ */
+public class TambakFlightRecorder implements TambakObserver {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(TambakInvocationEvent.class);
+
+    private final long thresholdNanos;
+
+    private final int sizeThreshold;
+
+    /** Signature and annotations of each method, computed once. */
+    private final ConcurrentMap<Method, String[]> labels = new ConcurrentHashMap<>();
+
+    /**
+     * @param threshold     the transform duration from which invocations are
+     *                      recorded.
+     * @param sizeThreshold the input or output size from which invocations are
+     *                      recorded.
+     */
+    public TambakFlightRecorder(Duration threshold, int sizeThreshold) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sizeThreshold = sizeThreshold;
+    }
+
+    @Override
+    public boolean isActive() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    @Override
+    public void onInvocation(TransformPlan plan, long targetNanos, long overheadNanos, int inputSize,
+            int outputSize, boolean nullSubstituted) {
+        if (overheadNanos < thresholdNanos && inputSize < sizeThreshold && outputSize < sizeThreshold) {
+            return;
+        }
+        TambakInvocationEvent event = new TambakInvocationEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        String[] methodLabels = labels.get(plan.method());
+        if (methodLabels == null) {
+            methodLabels = labels.computeIfAbsent(plan.method(), method -> new String[] {
+                    AdvisedMethods.signature(method),
+                    String.join(" ", TambakMetrics.MethodMeters.tambakAnnotations(method)) });
+        }
+        event.method = methodLabels[0];
+        event.annotations = methodLabels[1];
+        event.inputSize = inputSize;
+        event.outputSize = outputSize;
+        event.transformDuration = overheadNanos;
+        event.methodDuration = targetNanos;
+        event.nullSubstituted = nullSubstituted;
+        event.commit();
+    }
+}
@@ -0,0 +1,44 @@
+package io.owenrbee.tambak.metrics;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Registers {@link TambakFlightRecorder} when the JDK ships Flight Recorder,
+ * unless {@code tambak.jfr.enabled=false}. Invocations are recorded from
+ * {@code tambak.jfr.threshold} of transform time (default 1ms) or
+ * {@code tambak.jfr.size-threshold} elements (default 10000).
+ * <p>
+ * Imported by {@link io.owenrbee.tambak.config.EnableTambakAnnotations} and the
+ * auto-configuration; the aspects pick the recorder up as a
+ * {@link io.owenrbee.tambak.support.TambakObserver}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "jdk.jfr.Event")
+@ConditionalOnProperty(prefix = "tambak.jfr", name = "enabled", matchIfMissing = true)
+public class TambakFlightRecorderConfiguration {
+
+    static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(1);
+
+    static final int DEFAULT_SIZE_THRESHOLD = 10_000;
+
+    /**
+     * @param environment the environment the thresholds are read from.
+     * @return the Flight Recorder observer.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TambakFlightRecorder tambakFlightRecorder(Environment environment) {
+        Binder binder = Binder.get(environment);
+        return new TambakFlightRecorder(
+                binder.bind("tambak.jfr.threshold", Duration.class).orElse(DEFAULT_THRESHOLD),
+                binder.bind("tambak.jfr.size-threshold", Integer.class).orElse(DEFAULT_SIZE_THRESHOLD));
+    }
+}
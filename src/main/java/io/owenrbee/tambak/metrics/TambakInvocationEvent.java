@@ -0,0 +1,53 @@
+package io.owenrbee.tambak.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a Tambak invocation that was slow or large enough
+ * to pass the {@link TambakFlightRecorder} thresholds. The event itself has no
+ * duration: it is committed after the fact, with the measured times as fields.
+ * Stack traces are off, as the {@code method} field already identifies the call
+ * site and walking the stack would cost more than the advice.
+ */
+@Name(TambakInvocationEvent.NAME)
+@Label("Tambak Invocation")
+@Category("Tambak")
+@Description("Slow or large invocation of a method advised by Tambak")
+@StackTrace(false)
+final class TambakInvocationEvent extends Event {
+
+    static final String NAME = "io.owenrbee.tambak.Invocation";
+
+    @Label("Method")
+    String method;
+
+    @Label("Annotations")
+    String annotations;
+
+    @Label("Input Size")
+    @Description("Size of the collection returned by the method, -1 if not a collection")
+    int inputSize;
+
+    @Label("Output Size")
+    @Description("Size of the collection after the Tambak transformations, -1 if not a collection")
+    int outputSize;
+
+    @Label("Transform Duration")
+    @Description("Time spent in the Tambak advice, excluding the method")
+    @Timespan(Timespan.NANOSECONDS)
+    long transformDuration;
+
+    @Label("Method Duration")
+    @Description("Time spent in the advised method")
+    @Timespan(Timespan.NANOSECONDS)
+    long methodDuration;
+
+    @Label("Null Substituted")
+    boolean nullSubstituted;
+}
@@ -0,0 +1,219 @@
+package io.owenrbee.tambak.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.TambakObserver;
+import io.owenrbee.tambak.support.TransformPlan;
+
+/**
+ * {@link TambakObserver} publishing Micrometer meters for every advised method,
+ * all tagged with {@code method} (see {@link AdvisedMethods#signature(Method)}):
+ * <ul>
+ * <li>{@value #OVERHEAD}: time spent in the Tambak advice, excluding the
+ * method,</li>
+ * <li>{@value #TARGET}: time spent in the advised method itself,</li>
+ * <li>{@value #SIZE}: sizes of the returned collections, tagged
+ * {@code stage=input} before and {@code stage=output} after the
+ * transformations,</li>
+ * <li>{@value #UNIQUE_RATIO}: output size divided by input size, for
+ * {@code @UniqueList} methods,</li>
+ * <li>{@value #NULL_SUBSTITUTIONS}: how often a {@code null} result was replaced
+ * by an empty one.</li>
+ * </ul>
+ * Meters are registered on the first invocation of a method and looked up from
+ * a local map afterwards, so recording does not go through the registry.
+ */
+public class TambakMetrics implements TambakObserver {
+
+    /** Timer of the time spent in the Tambak advice, excluding the method. */
+    public static final String OVERHEAD = "tambak.advice.overhead";
+
+    /** Timer of the time spent in the advised method itself. */
+    public static final String TARGET = "tambak.advice.target";
+
+    /** Distribution of the sizes of returned and transformed collections. */
+    public static final String SIZE = "tambak.advice.size";
+
+    /** Distribution of output size divided by input size. */
+    public static final String UNIQUE_RATIO = "tambak.unique.ratio";
+
+    /** Counter of {@code null} results replaced by an empty one. */
+    public static final String NULL_SUBSTITUTIONS = "tambak.null.substitutions";
+
+    private final MeterRegistry registry;
+
+    private final ConcurrentMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry the registry the meters are registered with.
+     */
+    public TambakMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onInvocation(TransformPlan plan, long targetNanos, long overheadNanos, int inputSize,
+            int outputSize, boolean nullSubstituted) {
+        MethodMeters methodMeters = meters.get(plan.method());
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(plan.method(), method -> new MethodMeters(registry, plan));
+        }
+        methodMeters.record(targetNanos, overheadNanos, inputSize, outputSize, nullSubstituted);
+    }
+
+    /**
+     * @return the meters of every advised method invoked so far.
+     */
+    public Collection<MethodMeters> advisedMethods() {
+        return Collections.unmodifiableCollection(meters.values());
+    }
+
+    /**
+     * Meters of a single advised method.
+     */
+    public static final class MethodMeters {
+
+        private final String signature;
+
+        private final List<String> annotations;
+
+        private final Timer overhead;
+
+        private final Timer target;
+
+        private final DistributionSummary inputSize;
+
+        private final DistributionSummary outputSize;
+
+        private final DistributionSummary uniqueRatio;
+
+        private final Counter nullSubstitutions;
+
+        MethodMeters(MeterRegistry registry, TransformPlan plan) {
+            this.signature = AdvisedMethods.signature(plan.method());
+            this.annotations = tambakAnnotations(plan.method());
+            Tags tags = Tags.of("method", signature);
+            this.overhead = Timer.builder(OVERHEAD)
+                    .description("Time spent in the Tambak advice, excluding the advised method")
+                    .tags(tags).register(registry);
+            this.target = Timer.builder(TARGET)
+                    .description("Time spent in the advised method")
+                    .tags(tags).register(registry);
+            this.inputSize = DistributionSummary.builder(SIZE)
+                    .description("Size of the collection returned by the advised method")
+                    .tags(tags).tag("stage", "input").register(registry);
+            this.outputSize = DistributionSummary.builder(SIZE)
+                    .description("Size of the collection after the Tambak transformations")
+                    .tags(tags).tag("stage", "output").register(registry);
+            this.uniqueRatio = plan.removesDuplicates()
+                    ? DistributionSummary.builder(UNIQUE_RATIO)
+                            .description("Unique elements divided by returned elements")
+                            .tags(tags).register(registry)
+                    : null;
+            this.nullSubstitutions = Counter.builder(NULL_SUBSTITUTIONS)
+                    .description("Null results replaced by an empty value")
+                    .tags(tags).register(registry);
+        }
+
+        void record(long targetNanos, long overheadNanos, int inputSizeValue, int outputSizeValue,
+                boolean nullSubstituted) {
+            overhead.record(overheadNanos, TimeUnit.NANOSECONDS);
+            target.record(targetNanos, TimeUnit.NANOSECONDS);
+            if (inputSizeValue >= 0) {
+                inputSize.record(inputSizeValue);
+            }
+            if (outputSizeValue >= 0) {
+                outputSize.record(outputSizeValue);
+                if (uniqueRatio != null && inputSizeValue > 0) {
+                    uniqueRatio.record((double) outputSizeValue / inputSizeValue);
+                }
+            }
+            if (nullSubstituted) {
+                nullSubstitutions.increment();
+            }
+        }
+
+        /**
+         * @return the method signature, as used for the {@code method} tag.
+         */
+        public String getSignature() {
+            return signature;
+        }
+
+        /**
+         * @return the Tambak annotations of the method, such as
+         *         {@code @UniqueList}.
+         */
+        public List<String> getAnnotations() {
+            return annotations;
+        }
+
+        /**
+         * @return the {@value TambakMetrics#OVERHEAD} timer.
+         */
+        public Timer getOverhead() {
+            return overhead;
+        }
+
+        /**
+         * @return the {@value TambakMetrics#TARGET} timer.
+         */
+        public Timer getTarget() {
+            return target;
+        }
+
+        /**
+         * @return the {@value TambakMetrics#SIZE} summary of returned sizes.
+         */
+        public DistributionSummary getInputSize() {
+            return inputSize;
+        }
+
+        /**
+         * @return the {@value TambakMetrics#SIZE} summary of transformed sizes.
+         */
+        public DistributionSummary getOutputSize() {
+            return outputSize;
+        }
+
+        /**
+         * @return the {@value TambakMetrics#UNIQUE_RATIO} summary, or
+         *         {@code null} if the method does not remove duplicates.
+         */
+        public DistributionSummary getUniqueRatio() {
+            return uniqueRatio;
+        }
+
+        /**
+         * @return the {@value TambakMetrics#NULL_SUBSTITUTIONS} counter.
+         */
+        public Counter getNullSubstitutions() {
+            return nullSubstitutions;
+        }
+
+        static List<String> tambakAnnotations(Method method) {
+            List<String> names = new ArrayList<>();
+            for (Annotation annotation : method.getAnnotations()) {
+                Class<? extends Annotation> type = annotation.annotationType();
+                if (type.getPackageName().equals("io.owenrbee.tambak.annotation")) {
+                    names.add("@" + type.getSimpleName());
+                }
+            }
+            return List.copyOf(names);
+        }
+    }
+}
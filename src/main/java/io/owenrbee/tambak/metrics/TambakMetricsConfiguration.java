@@ -0,0 +1,57 @@
+package io.owenrbee.tambak.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Registers {@link TambakMetrics} when Micrometer is on the classpath, and the
+ * {@link TambakEndpoint} when Spring Boot Actuator is too, and
+ * {@link TambakCacheMetrics} when Caffeine is too. Meters go to the
+ * application's {@link MeterRegistry}, or to Micrometer's global registry if
+ * the context defines none.
+ * <p>
+ * Imported by {@link io.owenrbee.tambak.config.EnableTambakAnnotations}; the
+ * aspects pick the metrics up as a {@link io.owenrbee.tambak.support.TambakObserver}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class TambakMetricsConfiguration {
+
+    /**
+     * @param meterRegistry the application's registry, if any.
+     * @return the metrics observer.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TambakMetrics tambakMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TambakMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.github.benmanes.caffeine.cache.Caffeine")
+    static class TambakCacheMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public TambakCacheMetrics tambakCacheMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+            return new TambakCacheMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class TambakEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public TambakEndpoint tambakEndpoint(TambakMetrics tambakMetrics) {
+            return new TambakEndpoint(tambakMetrics);
+        }
+    }
+}
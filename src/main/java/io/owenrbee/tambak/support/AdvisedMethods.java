@@ -0,0 +1,133 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Resolves the method an advice is running for, and caches its
+ * {@link TransformPlan}.
+ * <p>
+ * Annotations, return types and the most specific method are looked up
+ * reflectively only on the first call of each method. Afterwards
+ * {@link #plan(Method, Class)} is a single map lookup that allocates nothing.
+ * Finding the plan of a join point also reads its signature, which Spring AOP
+ * creates on first access, once per call; woven AspectJ advice gets it from a
+ * static join point part instead.
+ */
+public final class AdvisedMethods {
+
+    /**
+     * Plans keyed by the join point method, for the first target class seen.
+     * Soft references, so classes of a discarded class loader can be collected.
+     */
+    private static final Map<Method, CachedPlan> PLANS = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * Plans of join point methods that are invoked on several target classes,
+     * such as an interface method with several annotated implementations.
+     */
+    private static final Map<TargetMethod, CachedPlan> POLYMORPHIC_PLANS = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * Bumped whenever the {@link TambakSettings} change. A plan built from
+     * older settings can still be stored after the maps are cleared, by a call
+     * that started building it before; its generation gives it away.
+     */
+    private static volatile int generation;
+
+    private AdvisedMethods() {
+    }
+
+    /**
+     * Returns the cached plan of the method a join point executes.
+     *
+     * @param joinPoint the method execution join point.
+     * @return the plan for the most specific method of the join point's target.
+     */
+    public static TransformPlan plan(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object target = joinPoint.getTarget();
+        return plan(method, target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass());
+    }
+
+    /**
+     * Returns the cached plan of a method invoked on an instance of the given
+     * class.
+     *
+     * @param method      the method, possibly declared by an interface or a
+     *                    superclass.
+     * @param targetClass the class of the instance the method is invoked on.
+     * @return the plan for the most specific method.
+     */
+    public static TransformPlan plan(Method method, Class<?> targetClass) {
+        // Read before building, so that settings changed meanwhile leave the
+        // plan with an outdated generation.
+        int current = generation;
+        CachedPlan cached = PLANS.get(method);
+        if (cached != null && cached.targetClass() == targetClass && cached.generation() == current) {
+            return cached.plan(); // The common case: one target class per method.
+        }
+        if (cached == null || cached.generation() != current) {
+            CachedPlan fresh = new CachedPlan(targetClass, newPlan(method, targetClass), current);
+            PLANS.put(method, fresh);
+            return fresh.plan();
+        }
+        // Rare: allocates a lookup key per call.
+        TargetMethod key = new TargetMethod(method, targetClass);
+        CachedPlan polymorphic = POLYMORPHIC_PLANS.get(key);
+        if (polymorphic == null || polymorphic.generation() != current) {
+            polymorphic = new CachedPlan(targetClass, newPlan(method, targetClass), current);
+            POLYMORPHIC_PLANS.put(key, polymorphic);
+        }
+        return polymorphic.plan();
+    }
+
+    /**
+     * Drops all plans, so that they are rebuilt with the current
+     * {@link TambakSettings} on the next call of each method.
+     */
+    static synchronized void invalidate() {
+        generation++;
+        PLANS.clear();
+        POLYMORPHIC_PLANS.clear();
+    }
+
+    /**
+     * Builds the plan of the method as declared on the target class. Behind an
+     * interface-based proxy the join point signature exposes the interface
+     * method, while the Tambak annotations live on the implementation.
+     */
+    private static TransformPlan newPlan(Method method, Class<?> targetClass) {
+        Class<?> userClass = ClassUtils.getUserClass(targetClass);
+        return TransformPlan.of(AopUtils.getMostSpecificMethod(method, userClass), userClass);
+    }
+
+    /**
+     * Short, human-readable signature of a method, used to tag metrics and
+     * events, for example {@code DataService.getItems(String,int)}.
+     *
+     * @param method the method to describe.
+     * @return the declaring class' simple name, the method name and the simple
+     *         names of its parameter types.
+     */
+    public static String signature(Method method) {
+        StringJoiner parameters = new StringJoiner(",", "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameters.add(parameterType.getSimpleName());
+        }
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + parameters;
+    }
+
+    private record CachedPlan(Class<?> targetClass, TransformPlan plan, int generation) {
+    }
+
+    private record TargetMethod(Method method, Class<?> targetClass) {
+    }
+}
@@ -0,0 +1,346 @@
+package io.owenrbee.tambak.support;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import io.owenrbee.tambak.annotation.ReverseMode;
+
+/**
+ * Array counterparts of the Tambak list transformations, for methods returning
+ * {@code int[]}, {@code long[]} or an object array.
+ * <p>
+ * Primitive arrays never go through boxed elements: de-duplication runs through
+ * a {@link LongHashSet} and compacts the unique values to the front of the
+ * array, or, stacked on a {@link io.owenrbee.tambak.annotation.SortedList
+ * natural sort}, sorts first and drops adjacent repeats without any hash set.
+ * Reversal swaps slots in place. Object arrays are de-duplicated and sorted
+ * through {@link Deduplicator} over an {@link Arrays#asList(Object...)
+ * array-backed list}, which does not copy, and sorted in place, or selected by
+ * {@link Sorter} when only the top elements are kept.
+ * <p>
+ * Arrays cannot be shrunk or viewed, so the result of filtering,
+ * de-duplication or a page is a trimmed copy. Filtering therefore never
+ * touches the returned array; other steps are applied in place, unless
+ * copy-on-write is on or the annotation asks for a copy
+ * ({@link ReverseMode#VIEW} included). A
+ * {@link io.owenrbee.tambak.annotation.FilterList} predicate sees each
+ * primitive value boxed, one at a time. Other primitive arrays, such as
+ * {@code double[]}, are returned unchanged. {@code by} keys and comparators do
+ * not apply to primitive values.
+ */
+final class ArrayTransforms {
+
+    private ArrayTransforms() {
+    }
+
+    /**
+     * @param plan  the plan to apply.
+     * @param array the array returned by the method.
+     * @return the transformed array, of the same type.
+     */
+    static Object apply(TransformPlan plan, Object array) {
+        // Read once, so all steps of this call agree.
+        boolean mayModify = !TambakSettings.isCopyOnWrite();
+        if (array instanceof int[] ints) {
+            return apply(plan, ints, mayModify);
+        }
+        if (array instanceof long[] longs) {
+            return apply(plan, longs, mayModify);
+        }
+        if (array instanceof Object[] objects) {
+            return apply(plan, objects, mayModify);
+        }
+        return array;
+    }
+
+    private static int[] apply(TransformPlan plan, int[] array, boolean mayModify) {
+        int[] values = array;
+        boolean owned = false;
+        int size = values.length;
+        if (plan.filter() != null) {
+            // The result is copied anyway once it is shorter, so the caller's
+            // array is never filtered in place.
+            int[] kept = new int[size];
+            size = filter(values, size, kept, plan.filter().newPredicate());
+            values = kept;
+            owned = true;
+        }
+        boolean sortFirst = plan.unique() != null && plan.sorted() != null;
+        if (plan.sorted() != null) {
+            if (!owned && !(plan.sorted().inPlace() && mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            Arrays.sort(values, 0, size);
+            if (sortFirst) {
+                // Sorted, equal values are adjacent: no hash set needed.
+                if (!owned && !(plan.unique().inPlace() && mayModify)) {
+                    values = values.clone();
+                    owned = true;
+                }
+                size = unique(values, size, true, false);
+            }
+            if (plan.sorted().descending()) {
+                reverse(values, size);
+            }
+            if (plan.sortLimit() >= 0) {
+                size = Math.min(size, plan.sortLimit());
+            }
+        } else if (plan.unique() != null) {
+            if (!owned && !(plan.unique().inPlace() && mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            size = unique(values, size, plan.unique().assumeSorted(), plan.keepsLast());
+        }
+        if (plan.reverse() != null) {
+            if (!owned && (plan.reverse().mode() != ReverseMode.IN_PLACE || !mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            reverse(values, size);
+        }
+        int from = 0;
+        int to = size;
+        if (plan.limit() != null) {
+            from = Math.min(plan.limit().offset(), size);
+            to = (int) Math.min(size, (long) from + plan.limit().max());
+        }
+        return from == 0 && to == values.length ? values : Arrays.copyOfRange(values, from, to);
+    }
+
+    private static long[] apply(TransformPlan plan, long[] array, boolean mayModify) {
+        long[] values = array;
+        boolean owned = false;
+        int size = values.length;
+        if (plan.filter() != null) {
+            // The result is copied anyway once it is shorter, so the caller's
+            // array is never filtered in place.
+            long[] kept = new long[size];
+            size = filter(values, size, kept, plan.filter().newPredicate());
+            values = kept;
+            owned = true;
+        }
+        boolean sortFirst = plan.unique() != null && plan.sorted() != null;
+        if (plan.sorted() != null) {
+            if (!owned && !(plan.sorted().inPlace() && mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            Arrays.sort(values, 0, size);
+            if (sortFirst) {
+                // Sorted, equal values are adjacent: no hash set needed.
+                if (!owned && !(plan.unique().inPlace() && mayModify)) {
+                    values = values.clone();
+                    owned = true;
+                }
+                size = unique(values, size, true, false);
+            }
+            if (plan.sorted().descending()) {
+                reverse(values, size);
+            }
+            if (plan.sortLimit() >= 0) {
+                size = Math.min(size, plan.sortLimit());
+            }
+        } else if (plan.unique() != null) {
+            if (!owned && !(plan.unique().inPlace() && mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            size = unique(values, size, plan.unique().assumeSorted(), plan.keepsLast());
+        }
+        if (plan.reverse() != null) {
+            if (!owned && (plan.reverse().mode() != ReverseMode.IN_PLACE || !mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            reverse(values, size);
+        }
+        int from = 0;
+        int to = size;
+        if (plan.limit() != null) {
+            from = Math.min(plan.limit().offset(), size);
+            to = (int) Math.min(size, (long) from + plan.limit().max());
+        }
+        return from == 0 && to == values.length ? values : Arrays.copyOfRange(values, from, to);
+    }
+
+    private static Object[] apply(TransformPlan plan, Object[] array, boolean mayModify) {
+        Object[] values = array;
+        boolean owned = false;
+        if (plan.unique() != null || plan.filter() != null) {
+            // Arrays.asList is not an ArrayList, so the input is never compacted.
+            List<?> kept = plan.unique() != null ? plan.unique(Arrays.asList(values), false)
+                    : Deduplicator.filter(Arrays.asList(values), plan.filter().newPredicate(), false);
+            if (kept.size() < values.length) {
+                values = kept.toArray(Arrays.copyOf(values, 0));
+                owned = true;
+            }
+        }
+        if (plan.sorted() != null) {
+            int limit = plan.sortLimit();
+            if (limit >= 0 && limit < values.length / Sorter.HEAP_RATIO) {
+                // Only the first elements are needed: select them into a new array.
+                values = Sorter.sort(Arrays.asList(values), plan.comparator(), limit, false)
+                        .toArray(Arrays.copyOf(values, 0));
+                owned = true;
+            } else {
+                if (!owned && !(plan.sorted().inPlace() && mayModify)) {
+                    values = values.clone();
+                    owned = true;
+                }
+                Arrays.parallelSort(values, plan.comparator());
+                if (limit >= 0 && limit < values.length) {
+                    values = Arrays.copyOf(values, limit);
+                    owned = true;
+                }
+            }
+        }
+        if (plan.reverse() != null) {
+            if (!owned && (plan.reverse().mode() != ReverseMode.IN_PLACE || !mayModify)) {
+                values = values.clone();
+                owned = true;
+            }
+            reverse(values);
+        }
+        if (plan.limit() != null) {
+            int from = Math.min(plan.limit().offset(), values.length);
+            int to = (int) Math.min(values.length, (long) from + plan.limit().max());
+            if (from != 0 || to != values.length) {
+                values = Arrays.copyOfRange(values, from, to);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Copies the values matching a filter to the front of the target array,
+     * boxing each one only for the duration of the test.
+     *
+     * @return the number of matching values.
+     */
+    private static int filter(int[] values, int size, int[] target, Predicate<Object> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(values[i])) {
+                target[kept++] = values[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * {@link #filter(int[], int, int[], Predicate)} for {@code long} values.
+     */
+    private static int filter(long[] values, int size, long[] target, Predicate<Object> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(values[i])) {
+                target[kept++] = values[i];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Moves the unique values to the front of the array.
+     *
+     * @return the number of unique values.
+     */
+    static int unique(long[] values, int size, boolean assumeSorted, boolean keepLast) {
+        if (size == 0) {
+            return 0;
+        }
+        if (assumeSorted) {
+            // Runs of equal values: first and last occurrences are the same value.
+            int kept = 1;
+            for (int i = 1; i < size; i++) {
+                if (values[i] != values[kept - 1]) {
+                    values[kept++] = values[i];
+                }
+            }
+            return kept;
+        }
+        LongHashSet seen = new LongHashSet(size);
+        if (!keepLast) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (seen.add(values[i])) {
+                    values[kept++] = values[i];
+                }
+            }
+            return kept;
+        }
+        // Last occurrences are the first ones seen walking backwards; collect them
+        // at the back, then move them to the front.
+        int start = size;
+        for (int i = size - 1; i >= 0; i--) {
+            if (seen.add(values[i])) {
+                values[--start] = values[i];
+            }
+        }
+        System.arraycopy(values, start, values, 0, size - start);
+        return size - start;
+    }
+
+    /**
+     * {@link #unique(long[], int, boolean, boolean)} for {@code int} values.
+     */
+    static int unique(int[] values, int size, boolean assumeSorted, boolean keepLast) {
+        if (size == 0) {
+            return 0;
+        }
+        if (assumeSorted) {
+            int kept = 1;
+            for (int i = 1; i < size; i++) {
+                if (values[i] != values[kept - 1]) {
+                    values[kept++] = values[i];
+                }
+            }
+            return kept;
+        }
+        LongHashSet seen = new LongHashSet(size);
+        if (!keepLast) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (seen.add(values[i])) {
+                    values[kept++] = values[i];
+                }
+            }
+            return kept;
+        }
+        int start = size;
+        for (int i = size - 1; i >= 0; i--) {
+            if (seen.add(values[i])) {
+                values[--start] = values[i];
+            }
+        }
+        System.arraycopy(values, start, values, 0, size - start);
+        return size - start;
+    }
+
+    static void reverse(long[] values, int size) {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    static void reverse(int[] values, int size) {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void reverse(Object[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            Object value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.owenrbee.tambak.support;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.owenrbee.tambak.annotation.CompactList;
+import io.owenrbee.tambak.collection.CompactIntList;
+import io.owenrbee.tambak.collection.CompactLongList;
+
+/**
+ * Packing engine behind {@link CompactList}.
+ * <p>
+ * A list of {@code Integer}s or {@code Long}s is unboxed in a single pass into
+ * a {@code long[]} scratch array, which the transformations of a fused
+ * {@link TransformPlan} then work on directly, with the primitive algorithms of
+ * {@link ArrayTransforms}: de-duplication through a {@link LongHashSet}, or by
+ * dropping adjacent repeats once sorted with the primitive
+ * {@link Arrays#sort(long[])}, reversal by swapping slots, and the page as an
+ * index range. Equal primitives cannot be told apart, so none of
+ * these need to be stable. The result is finally packed into a
+ * {@link CompactIntList} or {@link CompactLongList} of exactly the right size.
+ */
+public final class Compactor {
+
+    private Compactor() {
+    }
+
+    /**
+     * Packs a list of {@code Integer}s or {@code Long}s into a compact immutable
+     * list.
+     *
+     * @param list the list to pack.
+     * @return the packed list; the input itself if it is already compact or holds
+     *         anything but {@code Integer}s only or {@code Long}s only.
+     */
+    public static List<?> compact(List<?> list) {
+        if (isCompact(list)) {
+            return list;
+        }
+        Unboxed unboxed = Unboxed.of(list);
+        return unboxed != null ? unboxed.pack(0, unboxed.values.length) : list;
+    }
+
+    /**
+     * @param list a list.
+     * @return {@code true} if the list is a compact, immutable primitive list.
+     */
+    public static boolean isCompact(List<?> list) {
+        return list instanceof CompactIntList || list instanceof CompactLongList;
+    }
+
+    /**
+     * Whether {@link #apply(TransformPlan, List)} can run a plan's
+     * transformations on primitives: filters, keys and comparators work on boxed
+     * elements.
+     */
+    static boolean supports(TransformPlan plan) {
+        return plan.filter() == null && plan.uniqueKey() == null && (plan.sorted() == null || plan.sorted().by().isEmpty());
+    }
+
+    /**
+     * Applies the transformations of a plan to a list and packs the result.
+     *
+     * @param plan the plan, {@link #supports(TransformPlan) supported}.
+     * @param list the method result.
+     * @return the packed, transformed list, or {@code null} if the list holds
+     *         anything but {@code Integer}s only or {@code Long}s only.
+     */
+    static List<?> apply(TransformPlan plan, List<?> list) {
+        Unboxed unboxed = Unboxed.of(list);
+        if (unboxed == null) {
+            return null;
+        }
+        long[] values = unboxed.values;
+        int size = values.length;
+        if (plan.sorted() != null) {
+            Arrays.sort(values);
+            if (plan.unique() != null) {
+                // Sorted, equal values are adjacent: no hash set needed.
+                size = ArrayTransforms.unique(values, size, true, false);
+            }
+            if (plan.sorted().descending()) {
+                ArrayTransforms.reverse(values, size);
+            }
+            if (plan.sortLimit() >= 0) {
+                size = Math.min(size, plan.sortLimit());
+            }
+        } else if (plan.unique() != null) {
+            size = ArrayTransforms.unique(values, size, plan.unique().assumeSorted(), plan.keepsLast());
+        }
+        if (plan.reverse() != null) {
+            // Whatever the mode: the array is ours, and the result a new list anyway.
+            ArrayTransforms.reverse(values, size);
+        }
+        int from = 0;
+        int to = size;
+        if (plan.limit() != null) {
+            from = Math.min(plan.limit().offset(), size);
+            to = (int) Math.min(size, (long) from + plan.limit().max());
+        }
+        return unboxed.pack(from, to);
+    }
+
+    /**
+     * The values of a list of {@code Integer}s or {@code Long}s.
+     */
+    private static final class Unboxed {
+
+        final long[] values;
+
+        /** Whether the elements were {@code Integer}s rather than {@code Long}s. */
+        final boolean ints;
+
+        private Unboxed(long[] values, boolean ints) {
+            this.values = values;
+            this.ints = ints;
+        }
+
+        static Unboxed of(List<?> list) {
+            long[] values = new long[list.size()];
+            if (list instanceof CompactIntList compact) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = compact.getInt(i);
+                }
+                return new Unboxed(values, true);
+            }
+            if (list instanceof CompactLongList compact) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = compact.getLong(i);
+                }
+                return new Unboxed(values, false);
+            }
+            boolean ints = true;
+            boolean longs = true;
+            int i = 0;
+            for (Object element : list) {
+                if (element instanceof Integer value) {
+                    longs = false;
+                    values[i++] = value;
+                } else if (element instanceof Long value) {
+                    ints = false;
+                    values[i++] = value;
+                } else {
+                    return null; // null, another type, or a concurrent modification
+                }
+                if (!ints && !longs) {
+                    return null; // Integer and Long mixed: their equals differ.
+                }
+                if (i == values.length) {
+                    break;
+                }
+            }
+            return i == values.length ? new Unboxed(values, ints) : null;
+        }
+
+        List<?> pack(int from, int to) {
+            int length = to - from;
+            if (length == 0) {
+                return List.of();
+            }
+            if (length == 1) {
+                return ints ? List.of((int) values[from]) : List.of(values[from]);
+            }
+            if (!ints) {
+                return CompactLongList.wrap(length == values.length ? values
+                        : Arrays.copyOfRange(values, from, to));
+            }
+            int[] packed = new int[length];
+            for (int i = 0; i < length; i++) {
+                packed[i] = (int) values[from + i];
+            }
+            return CompactIntList.wrap(packed);
+        }
+    }
+}
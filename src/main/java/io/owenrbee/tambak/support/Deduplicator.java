@@ -0,0 +1,358 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * De-duplication engine behind {@link io.owenrbee.tambak.annotation.UniqueList}.
+ * <p>
+ * The first occurrence of every element is kept, in encounter order. The
+ * cheapest applicable strategy is picked per call:
+ * <ul>
+ * <li>sorted input ({@code assumeSorted}): equal elements are adjacent, so only
+ * neighbours are compared, O(n) without hashing;</li>
+ * <li>tiny lists: a linear scan over the elements kept so far;</li>
+ * <li>lists holding only {@code Integer} or {@code Long} values (and nulls): a
+ * primitive {@link LongHashSet}, no boxing and no per-element nodes;</li>
+ * <li>anything else, {@code String} included: an open-addressing
+ * {@link ObjectHashSet}.</li>
+ * </ul>
+ * Elements can also be compared by a key, such as an entity ID, and the last
+ * occurrence of each key can be kept instead of the first; see
+ * {@link #unique(List, Function, boolean, boolean, boolean)}.
+ * <p>
+ * When compaction in place is allowed and the list is a plain
+ * {@link ArrayList}, the unique elements are moved to the front of that list
+ * and the tail is cut off, so no output list is allocated at all. Otherwise a
+ * new {@link ArrayList} is returned and the input is left untouched.
+ */
+public final class Deduplicator {
+
+    /** Up to this size a quadratic scan beats setting up a hash table. */
+    static final int LINEAR_SCAN_THRESHOLD = 16;
+
+    private Deduplicator() {
+    }
+
+    /**
+     * Removes duplicates from a list.
+     *
+     * @param list         the list to de-duplicate.
+     * @param assumeSorted whether equal elements are known to be adjacent.
+     * @param inPlace      whether a mutable {@link ArrayList} may be compacted in
+     *                     place instead of copied.
+     * @return the list holding the unique elements; the input itself if it was
+     *         compacted in place.
+     */
+    public static List<Object> unique(List<?> list, boolean assumeSorted, boolean inPlace) {
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+        List<Object> target = compact ? source : new ArrayList<>(source.size());
+
+        int size = source.size();
+        int kept;
+        if (!(source instanceof RandomAccess)) {
+            kept = uniqueSequential(source, target, size);
+        } else if (assumeSorted) {
+            kept = uniqueSorted(source, target, size, compact);
+        } else if (size <= LINEAR_SCAN_THRESHOLD) {
+            kept = uniqueLinear(source, target, size, compact);
+        } else if (holdsOnlyIntegralNumbers(source, size)) {
+            kept = uniqueIntegral(source, target, size, compact);
+        } else {
+            kept = uniqueHashed(source, target, size, compact);
+        }
+
+        if (compact && kept < size) {
+            source.subList(kept, size).clear();
+        }
+        return target;
+    }
+
+    /**
+     * Removes elements with duplicate keys from a list.
+     *
+     * @param list         the list to de-duplicate.
+     * @param key          extracts the key elements are compared by,
+     *                     {@code null} to compare whole elements.
+     * @param assumeSorted whether elements with equal keys are known to be
+     *                     adjacent.
+     * @param keepLast     whether to keep the last element of each key rather
+     *                     than the first.
+     * @param inPlace      whether a mutable {@link ArrayList} may be compacted in
+     *                     place instead of copied.
+     * @return the list holding the unique elements; the input itself if it was
+     *         compacted in place.
+     */
+    public static List<Object> unique(List<?> list, Function<Object, ?> key, boolean assumeSorted,
+            boolean keepLast, boolean inPlace) {
+        if (key == null && !keepLast) {
+            return unique(list, assumeSorted, inPlace);
+        }
+        Function<Object, ?> keyOf = key != null ? key : Function.identity();
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+        List<Object> target = compact ? source : new ArrayList<>(source.size());
+
+        int size = source.size();
+        int kept = keepLast
+                ? uniqueKeepingLast(source, target, size, keyOf, assumeSorted, compact)
+                : uniqueKeepingFirst(source, target, size, keyOf, assumeSorted, compact);
+
+        if (compact && kept < size) {
+            source.subList(kept, size).clear();
+        }
+        return target;
+    }
+
+    /**
+     * Removes the elements not matching a filter and, in the same pass, those
+     * with duplicate keys, as a
+     * {@link io.owenrbee.tambak.annotation.FilterList} stacked on a
+     * {@link io.owenrbee.tambak.annotation.UniqueList} asks.
+     *
+     * @param list         the list to filter and de-duplicate.
+     * @param filter       the elements to keep, {@code null} to keep all.
+     * @param key          extracts the key elements are compared by,
+     *                     {@code null} to compare whole elements.
+     * @param assumeSorted whether elements with equal keys are known to be
+     *                     adjacent.
+     * @param keepLast     whether to keep the last element of each key rather
+     *                     than the first.
+     * @param inPlace      whether a mutable {@link ArrayList} may be compacted in
+     *                     place instead of copied.
+     * @return the list holding the matching unique elements; the input itself if
+     *         it was compacted in place.
+     */
+    public static List<Object> unique(List<?> list, Predicate<Object> filter, Function<Object, ?> key,
+            boolean assumeSorted, boolean keepLast, boolean inPlace) {
+        if (filter == null) {
+            return unique(list, key, assumeSorted, keepLast, inPlace);
+        }
+        if (keepLast) {
+            // Last occurrences need a backward pass over the matching elements.
+            List<Object> matching = filter(list, filter, inPlace);
+            return unique(matching, key, assumeSorted, true, inPlace || matching != list);
+        }
+        Function<Object, ?> keyOf = key != null ? key : Function.identity();
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+        List<Object> target = compact ? source : new ArrayList<>();
+
+        int size = source.size();
+        ObjectHashSet seen = assumeSorted ? null : new ObjectHashSet(size);
+        boolean first = true;
+        Object previousKey = null;
+        int kept = 0;
+        for (Object element : source) {
+            if (!filter.test(element)) {
+                continue;
+            }
+            Object elementKey = keyOf.apply(element);
+            boolean unique = assumeSorted ? first || !Objects.equals(previousKey, elementKey) : seen.add(elementKey);
+            if (unique) {
+                kept = keep(target, kept, element, compact);
+            }
+            first = false;
+            previousKey = elementKey;
+        }
+
+        if (compact && kept < size) {
+            source.subList(kept, size).clear();
+        }
+        return target;
+    }
+
+    /**
+     * Removes the elements not matching a filter, as
+     * {@link io.owenrbee.tambak.annotation.FilterList} asks.
+     *
+     * @param list    the list to filter.
+     * @param filter  the elements to keep.
+     * @param inPlace whether a mutable {@link ArrayList} may be compacted in place
+     *                instead of copied.
+     * @return the list holding the matching elements; the input itself if it was
+     *         compacted in place.
+     */
+    public static List<Object> filter(List<?> list, Predicate<Object> filter, boolean inPlace) {
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+        List<Object> target = compact ? source : new ArrayList<>();
+
+        int size = source.size();
+        int kept = 0;
+        for (Object element : source) {
+            if (filter.test(element)) {
+                kept = keep(target, kept, element, compact);
+            }
+        }
+
+        if (compact && kept < size) {
+            source.subList(kept, size).clear();
+        }
+        return target;
+    }
+
+    private static int uniqueKeepingFirst(List<Object> source, List<Object> target, int size,
+            Function<Object, ?> keyOf, boolean assumeSorted, boolean compact) {
+        ObjectHashSet seen = assumeSorted ? null : new ObjectHashSet(size);
+        Object previousKey = null;
+        int kept = 0;
+        int index = 0;
+        // Iterating rather than indexing also serves sequential lists; writes
+        // through set() never overtake the iterator.
+        for (Object element : source) {
+            Object elementKey = keyOf.apply(element);
+            boolean first = assumeSorted
+                    ? index == 0 || !Objects.equals(previousKey, elementKey)
+                    : seen.add(elementKey);
+            if (first) {
+                kept = keep(target, kept, element, compact);
+            }
+            previousKey = elementKey;
+            index++;
+        }
+        return kept;
+    }
+
+    private static int uniqueKeepingLast(List<Object> source, List<Object> target, int size,
+            Function<Object, ?> keyOf, boolean assumeSorted, boolean compact) {
+        // Walk backwards marking last occurrences, then keep them in encounter
+        // order. The snapshot makes both passes O(n) whatever the list type.
+        Object[] elements = source.toArray();
+        boolean[] last = new boolean[size];
+        ObjectHashSet seen = assumeSorted ? null : new ObjectHashSet(size);
+        Object nextKey = null;
+        for (int i = size - 1; i >= 0; i--) {
+            Object elementKey = keyOf.apply(elements[i]);
+            last[i] = assumeSorted
+                    ? i == size - 1 || !Objects.equals(nextKey, elementKey)
+                    : seen.add(elementKey);
+            nextKey = elementKey;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (last[i]) {
+                kept = keep(target, kept, elements[i], compact);
+            }
+        }
+        return kept;
+    }
+
+    private static int uniqueSequential(List<Object> source, List<Object> target, int size) {
+        // Linked lists and the like are never compacted in place: a single
+        // forward pass into a new list is all they support efficiently.
+        ObjectHashSet seen = new ObjectHashSet(size);
+        for (Object element : source) {
+            if (seen.add(element)) {
+                target.add(element);
+            }
+        }
+        return target.size();
+    }
+
+    private static int uniqueSorted(List<Object> source, List<Object> target, int size, boolean compact) {
+        if (size == 0) {
+            return 0;
+        }
+        Object previous = source.get(0);
+        int kept = keep(target, 0, previous, compact);
+        for (int i = 1; i < size; i++) {
+            Object element = source.get(i);
+            if (!Objects.equals(previous, element)) {
+                kept = keep(target, kept, element, compact);
+                previous = element;
+            }
+        }
+        return kept;
+    }
+
+    private static int uniqueLinear(List<Object> source, List<Object> target, int size, boolean compact) {
+        int kept = 0;
+        outer: for (int i = 0; i < size; i++) {
+            Object element = source.get(i);
+            for (int j = 0; j < kept; j++) {
+                if (Objects.equals(target.get(j), element)) {
+                    continue outer;
+                }
+            }
+            kept = keep(target, kept, element, compact);
+        }
+        return kept;
+    }
+
+    private static int uniqueIntegral(List<Object> source, List<Object> target, int size, boolean compact) {
+        LongHashSet seen = new LongHashSet(size);
+        boolean seenNull = false;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Object element = source.get(i);
+            boolean first;
+            if (element == null) {
+                first = !seenNull;
+                seenNull = true;
+            } else {
+                first = seen.add(((Number) element).longValue());
+            }
+            if (first) {
+                kept = keep(target, kept, element, compact);
+            }
+        }
+        return kept;
+    }
+
+    private static int uniqueHashed(List<Object> source, List<Object> target, int size, boolean compact) {
+        ObjectHashSet seen = new ObjectHashSet(size);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Object element = source.get(i);
+            if (seen.add(element)) {
+                kept = keep(target, kept, element, compact);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Whether every non-null element is an {@code Integer}, or every non-null
+     * element is a {@code Long}. Mixing both is rejected: {@code Integer 1} and
+     * {@code Long 1} are not equal and must not collapse into one key.
+     */
+    private static boolean holdsOnlyIntegralNumbers(List<Object> source, int size) {
+        Class<?> type = null;
+        for (int i = 0; i < size; i++) {
+            Object element = source.get(i);
+            if (element == null) {
+                continue;
+            }
+            Class<?> elementType = element.getClass();
+            if (type == null) {
+                if (elementType != Integer.class && elementType != Long.class) {
+                    return false;
+                }
+                type = elementType;
+            } else if (elementType != type) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int keep(List<Object> target, int kept, Object element, boolean compact) {
+        if (compact) {
+            // Writes never overtake reads: kept <= current read index.
+            target.set(kept, element);
+        } else {
+            target.add(element);
+        }
+        return kept + 1;
+    }
+}
@@ -0,0 +1,124 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.owenrbee.tambak.annotation.DistinctAcrossCalls;
+import io.owenrbee.tambak.annotation.DistinctScope;
+
+/**
+ * The elements returned by one method annotated with
+ * {@link DistinctAcrossCalls} within its window, kept in one
+ * {@link RotatingBloomFilter} per {@link DistinctScope scope}.
+ */
+public final class DistinctWindow {
+
+    private final DistinctAcrossCalls settings;
+
+    /** Key elements are compared by, {@code null} for whole elements. */
+    private final Function<Object, Object> key;
+
+    /** The filter of {@link DistinctScope#METHOD}. */
+    private final RotatingBloomFilter shared;
+
+    /** The filters of {@link DistinctScope#THREAD}. */
+    private final ThreadLocal<RotatingBloomFilter> perThread;
+
+    /** The filters of {@link DistinctScope#ARGUMENT}, least recently used first. */
+    private final Map<Object, RotatingBloomFilter> perArgument;
+
+    /**
+     * @param settings the window settings.
+     */
+    public DistinctWindow(DistinctAcrossCalls settings) {
+        this.settings = settings;
+        this.key = settings.by().isEmpty() ? null : PropertyAccessors.forProperty(settings.by());
+        // Fail fast on invalid settings, whatever the scope.
+        RotatingBloomFilter first = newFilter();
+        this.shared = settings.scope() == DistinctScope.METHOD ? first : null;
+        this.perThread = settings.scope() == DistinctScope.THREAD ? ThreadLocal.withInitial(this::newFilter) : null;
+        this.perArgument = settings.scope() == DistinctScope.ARGUMENT
+                ? new LinkedHashMap<>(16, 0.75f, true) {
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Object, RotatingBloomFilter> eldest) {
+                        return size() > settings.maxKeys();
+                    }
+                }
+                : null;
+    }
+
+    /**
+     * Drops the elements already returned within the window, and remembers the
+     * others.
+     *
+     * @param list the method result.
+     * @param args the method arguments, for {@link DistinctScope#ARGUMENT}.
+     * @return {@code list} itself if no element was dropped, otherwise a new list
+     *         of the kept elements in encounter order.
+     */
+    public List<?> filter(List<?> list, Object[] args) {
+        RotatingBloomFilter filter = filterFor(args);
+        List<Object> kept = null;
+        int i = 0;
+        for (Object element : list) {
+            Object elementKey = key != null && element != null ? key.apply(element) : element;
+            boolean fresh = filter.add(fingerprint(elementKey));
+            if (kept == null && !fresh) {
+                // First element dropped: copy the prefix kept so far.
+                kept = new ArrayList<>(list.size() - 1);
+                kept.addAll(list.subList(0, i));
+            } else if (kept != null && fresh) {
+                kept.add(element);
+            }
+            i++;
+        }
+        return kept != null ? kept : list;
+    }
+
+    /**
+     * A 64-bit hash of a key for the Bloom filter. Integral numbers are their
+     * own value, and strings get a second, independent 32-bit hash of their
+     * characters next to their {@code hashCode}, so distinct keys of either
+     * kind practically never collide. Other keys only have their
+     * {@code hashCode}, which bounds the false-positive rate from below.
+     */
+    static long fingerprint(Object key) {
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return ((Number) key).longValue();
+        }
+        if (key instanceof String string) {
+            // FNV-1a over the characters.
+            int hash = 0x811c9dc5;
+            for (int i = 0; i < string.length(); i++) {
+                hash = (hash ^ string.charAt(i)) * 0x01000193;
+            }
+            return (long) string.hashCode() << 32 | Integer.toUnsignedLong(hash);
+        }
+        return Objects.hashCode(key);
+    }
+
+    private RotatingBloomFilter filterFor(Object[] args) {
+        switch (settings.scope()) {
+            case THREAD:
+                return perThread.get();
+            case ARGUMENT:
+                Object argument = args[settings.keyArgument()];
+                synchronized (perArgument) {
+                    return perArgument.computeIfAbsent(argument, a -> newFilter());
+                }
+            case METHOD:
+            default:
+                return shared;
+        }
+    }
+
+    private RotatingBloomFilter newFilter() {
+        return new RotatingBloomFilter(settings.timeUnit().toNanos(settings.window()),
+                settings.expectedInsertions(), settings.falsePositiveRate());
+    }
+}
@@ -0,0 +1,74 @@
+package io.owenrbee.tambak.support;
+
+import java.util.function.Predicate;
+
+import org.springframework.core.NativeDetector;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import io.owenrbee.tambak.annotation.FilterList;
+
+/**
+ * Compiled predicate of a {@link FilterList} annotation, built once per method.
+ * <p>
+ * The SpEL expression is parsed with
+ * {@link SpelCompilerMode#IMMEDIATE}: the first evaluation interprets it to
+ * learn the element type, and every later one runs generated bytecode. An
+ * {@link EvaluationContext} holds the {@code #e} variable, so it cannot be
+ * shared between threads; {@link #newPredicate()} hands out one per caller.
+ */
+public final class ElementFilter {
+
+    /** Name of the variable holding the element. */
+    static final String ELEMENT = "e";
+
+    private final Expression expression;
+
+    private ElementFilter(Expression expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parses the expression of a {@link FilterList} annotation.
+     *
+     * @param filterList  the annotation.
+     * @param classLoader the class loader the compiled expression is defined in,
+     *                    typically the one of the advised class.
+     * @return the filter.
+     * @throws org.springframework.expression.ParseException if the expression is
+     *                                                       not valid SpEL.
+     */
+    public static ElementFilter of(FilterList filterList, ClassLoader classLoader) {
+        // Native images cannot define the compiled classes at run time.
+        SpelCompilerMode mode = NativeDetector.inNativeImage() ? SpelCompilerMode.OFF : SpelCompilerMode.IMMEDIATE;
+        SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(mode, classLoader));
+        return new ElementFilter(parser.parseExpression(filterList.value()));
+    }
+
+    /**
+     * @return a predicate for a single thread, for instance one call's list, one
+     *         iterator or one subscription. Not for streams: whether they run in
+     *         parallel is only settled by their terminal operation.
+     */
+    public Predicate<Object> newPredicate() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        return element -> matches(context, element);
+    }
+
+    /**
+     * @return a predicate that may be called from several threads at once, as
+     *         parallel streams do; it sets up a context per element.
+     */
+    public Predicate<Object> newConcurrentPredicate() {
+        return element -> matches(new StandardEvaluationContext(), element);
+    }
+
+    private boolean matches(StandardEvaluationContext context, Object element) {
+        context.setVariable(ELEMENT, element);
+        return Boolean.TRUE.equals(expression.getValue(context, element, Boolean.class));
+    }
+}
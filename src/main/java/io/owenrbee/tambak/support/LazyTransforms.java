@@ -0,0 +1,376 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.owenrbee.tambak.collection.ReversedList;
+
+/**
+ * Lazy counterparts of the Tambak list transformations, for methods returning a
+ * {@link Stream}, {@link Iterator} or {@link Iterable}.
+ * <p>
+ * Nothing is consumed when a transformation is set up. Filtering and
+ * de-duplication drop elements incrementally as they are pulled, so memory only
+ * grows with the number of distinct elements seen, and a page stops pulling once it is
+ * complete. Sorting, reversal, and de-duplication
+ * keeping last occurrences cannot be streamed: they buffer the source, but only once the
+ * first element is actually requested.
+ */
+public final class LazyTransforms {
+
+    private LazyTransforms() {
+    }
+
+    /**
+     * @param stream the source stream.
+     * @param filter the predicate of the elements to keep.
+     * @return a stream of the matching elements.
+     */
+    public static Stream<Object> filter(Stream<?> stream, ElementFilter filter) {
+        @SuppressWarnings("unchecked")
+        Stream<Object> source = (Stream<Object>) stream;
+        // Not decided by isParallel(): the caller may still turn the returned
+        // stream parallel, and then elements are tested on several threads.
+        return source.filter(filter.newConcurrentPredicate());
+    }
+
+    /**
+     * @param iterator the source iterator.
+     * @param filter   the elements to keep.
+     * @return an iterator skipping the elements not matching the filter.
+     */
+    public static Iterator<Object> filter(Iterator<?> iterator, Predicate<Object> filter) {
+        return new FilteringIterator(iterator, filter);
+    }
+
+    /**
+     * @param stream       the source stream.
+     * @param key          extracts the key elements are compared by,
+     *                     {@code null} to compare whole elements.
+     * @param assumeSorted whether equal keys are known to be adjacent.
+     * @param keepLast     whether to keep last rather than first occurrences.
+     * @return a stream dropping elements with repeated keys.
+     */
+    public static Stream<Object> distinct(Stream<?> stream, Function<Object, ?> key, boolean assumeSorted,
+            boolean keepLast) {
+        @SuppressWarnings("unchecked")
+        Stream<Object> source = (Stream<Object>) stream;
+        if (keepLast || (key != null && source.isParallel())) {
+            // Last occurrences are only known at the end; parallel streams have no
+            // keyed distinct() that keeps encounter order.
+            return buffered(source, buffer -> Deduplicator.unique(buffer, key, assumeSorted, keepLast, true));
+        }
+        if (source.isParallel()) {
+            // The filters below keep unsynchronized state.
+            return source.distinct();
+        }
+        // Not source.filter(): the caller may still turn the returned stream
+        // parallel. The spliterator owns the state and never splits, so it is
+        // only ever advanced by one thread at a time.
+        return StreamSupport.stream(new FirstOccurrenceSpliterator(source.spliterator(),
+                firstOccurrence(key, assumeSorted)), false).onClose(source::close);
+    }
+
+    /**
+     * @param stream the source stream.
+     * @return a stream of the source elements in reverse order, buffered when the
+     *         terminal operation starts.
+     */
+    public static Stream<Object> reversed(Stream<?> stream) {
+        @SuppressWarnings("unchecked")
+        Stream<Object> source = (Stream<Object>) stream;
+        return buffered(source, ReversedList::of);
+    }
+
+    /**
+     * @param stream the source stream.
+     * @param offset the number of leading elements to skip.
+     * @param max    the maximum number of elements to return.
+     * @return a stream of the page, short-circuiting once {@code max} elements
+     *         were pulled.
+     */
+    public static Stream<Object> page(Stream<?> stream, int offset, int max) {
+        @SuppressWarnings("unchecked")
+        Stream<Object> source = (Stream<Object>) stream;
+        return source.skip(offset).limit(max);
+    }
+
+    /**
+     * @param stream     the source stream.
+     * @param comparator the sort order.
+     * @param limit      the number of elements to keep, negative for all.
+     * @return a stream of the sorted source elements, buffered when the terminal
+     *         operation starts.
+     */
+    public static Stream<Object> sorted(Stream<?> stream, Comparator<Object> comparator, int limit) {
+        @SuppressWarnings("unchecked")
+        Stream<Object> source = (Stream<Object>) stream;
+        return buffered(source, buffer -> Sorter.sort(buffer, comparator, limit, true));
+    }
+
+    /**
+     * @param iterator     the source iterator.
+     * @param key          extracts the key elements are compared by,
+     *                     {@code null} to compare whole elements.
+     * @param assumeSorted whether equal keys are known to be adjacent.
+     * @param keepLast     whether to keep last rather than first occurrences.
+     * @return an iterator skipping elements with repeated keys.
+     */
+    public static Iterator<Object> distinct(Iterator<?> iterator, Function<Object, ?> key, boolean assumeSorted,
+            boolean keepLast) {
+        if (keepLast) {
+            return deferred(() -> Deduplicator.unique(buffer(iterator), key, assumeSorted, true, true).iterator());
+        }
+        return new FilteringIterator(iterator, firstOccurrence(key, assumeSorted));
+    }
+
+    /**
+     * @param iterator the source iterator.
+     * @param offset   the number of leading elements to skip.
+     * @param max      the maximum number of elements to return.
+     * @return an iterator over the page, which stops pulling from the source once
+     *         {@code max} elements were returned.
+     */
+    public static Iterator<Object> page(Iterator<?> iterator, int offset, int max) {
+        return new PageIterator(iterator, offset, max);
+    }
+
+    /**
+     * @param iterator   the source iterator.
+     * @param comparator the sort order.
+     * @param limit      the number of elements to keep, negative for all.
+     * @return an iterator over the sorted source elements, buffered on the first
+     *         call to {@code hasNext} or {@code next}.
+     */
+    public static Iterator<Object> sorted(Iterator<?> iterator, Comparator<Object> comparator, int limit) {
+        return deferred(() -> Sorter.sort(buffer(iterator), comparator, limit, true).iterator());
+    }
+
+    /**
+     * @param iterator the source iterator.
+     * @return an iterator over the source elements in reverse order, buffered on
+     *         the first call to {@code hasNext} or {@code next}.
+     */
+    public static Iterator<Object> reversed(Iterator<?> iterator) {
+        return deferred(() -> ReversedList.of(buffer(iterator)).iterator());
+    }
+
+    /**
+     * Stream of the source elements, buffered and post-processed once the
+     * terminal operation starts.
+     */
+    private static Stream<Object> buffered(Stream<Object> source, Function<List<Object>, List<Object>> finisher) {
+        return StreamSupport.stream(() -> finisher.apply(buffer(source.iterator())).spliterator(),
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED, source.isParallel())
+                .onClose(source::close);
+    }
+
+    /**
+     * Iterator created on the first call to {@code hasNext} or {@code next}.
+     */
+    private static Iterator<Object> deferred(Supplier<Iterator<Object>> supplier) {
+        return new Iterator<>() {
+
+            private Iterator<Object> delegate;
+
+            @Override
+            public boolean hasNext() {
+                return delegate().hasNext();
+            }
+
+            @Override
+            public Object next() {
+                return delegate().next();
+            }
+
+            private Iterator<Object> delegate() {
+                if (delegate == null) {
+                    delegate = supplier.get();
+                }
+                return delegate;
+            }
+        };
+    }
+
+    private static List<Object> buffer(Iterator<?> iterator) {
+        List<Object> buffer = new ArrayList<>();
+        iterator.forEachRemaining(buffer::add);
+        return buffer;
+    }
+
+    private static Predicate<Object> firstOccurrence(Function<Object, ?> key, boolean assumeSorted) {
+        Predicate<Object> firstKey = firstOccurrence(assumeSorted);
+        return key != null ? element -> firstKey.test(key.apply(element)) : firstKey;
+    }
+
+    private static Predicate<Object> firstOccurrence(boolean assumeSorted) {
+        if (assumeSorted) {
+            return new Predicate<>() {
+
+                private boolean first = true;
+
+                private Object previous;
+
+                @Override
+                public boolean test(Object element) {
+                    boolean keep = first || !Objects.equals(previous, element);
+                    first = false;
+                    previous = element;
+                    return keep;
+                }
+            };
+        }
+        ObjectHashSet seen = new ObjectHashSet(16);
+        return seen::add;
+    }
+
+    /**
+     * Spliterator passing on only the first occurrences of the source elements.
+     * It cannot be split, as its predicate is not thread-safe.
+     */
+    private static final class FirstOccurrenceSpliterator implements Spliterator<Object> {
+
+        private final Spliterator<Object> source;
+
+        private final Predicate<Object> first;
+
+        private final Consumer<Object> take = element -> this.next = element;
+
+        private Object next;
+
+        FirstOccurrenceSpliterator(Spliterator<Object> source, Predicate<Object> first) {
+            this.source = source;
+            this.first = first;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            while (source.tryAdvance(take)) {
+                Object element = next;
+                next = null;
+                if (first.test(element)) {
+                    action.accept(element);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Object> action) {
+            source.forEachRemaining(element -> {
+                if (first.test(element)) {
+                    action.accept(element);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        }
+    }
+
+    /**
+     * Iterator passing on only the source elements matching a predicate.
+     */
+    private static final class FilteringIterator implements Iterator<Object> {
+
+        private final Iterator<?> source;
+
+        private final Predicate<Object> filter;
+
+        private Object next;
+
+        private boolean ready;
+
+        FilteringIterator(Iterator<?> source, Predicate<Object> filter) {
+            this.source = source;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!ready && source.hasNext()) {
+                Object candidate = source.next();
+                if (filter.test(candidate)) {
+                    next = candidate;
+                    ready = true;
+                }
+            }
+            return ready;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            Object element = next;
+            next = null;
+            return element;
+        }
+    }
+
+    /**
+     * Iterator over a page of the source elements. It never asks the source for
+     * more elements than the page needs.
+     */
+    private static final class PageIterator implements Iterator<Object> {
+
+        private final Iterator<?> source;
+
+        private int skip;
+
+        private int remaining;
+
+        PageIterator(Iterator<?> source, int offset, int max) {
+            this.source = source;
+            this.skip = offset;
+            this.remaining = max;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (remaining <= 0) {
+                return false;
+            }
+            while (skip > 0 && source.hasNext()) {
+                source.next();
+                skip--;
+            }
+            return source.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            return source.next();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.owenrbee.tambak.annotation.CachedList;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the list results of one method annotated with {@link CachedList},
+ * backed by Caffeine.
+ * <p>
+ * Misses proceed with the join point through
+ * {@link Cache#get(Object, java.util.function.Function)}, which runs the method
+ * once per key however many callers miss concurrently.
+ * <p>
+ * Refreshes are not left to Caffeine, whose reloads run on its executor after
+ * the advice that captured the join point has returned. Instead, the first
+ * call that finds its entry older than {@link CachedList#refreshAfterWrite()}
+ * proceeds with its own join point, on its own thread, and replaces the entry
+ * with the result. Calls for the same key meanwhile keep getting the current
+ * value. Nothing but the list is kept per entry.
+ */
+@Slf4j
+public final class ListCache {
+
+    private final Cache<InvocationKey, CachedResult> cache;
+
+    private final long refreshNanos;
+
+    /**
+     * @param cachedList the cache settings.
+     */
+    public ListCache(CachedList cachedList) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(cachedList.maximumSize())
+                .recordStats();
+        if (cachedList.expireAfterWrite() >= 0) {
+            builder.expireAfterWrite(cachedList.expireAfterWrite(), cachedList.timeUnit());
+        }
+        this.refreshNanos = cachedList.refreshAfterWrite() > 0
+                ? cachedList.timeUnit().toNanos(cachedList.refreshAfterWrite())
+                : -1;
+        this.cache = builder.build();
+    }
+
+    /**
+     * Returns the cached result of the join point's invocation, running the
+     * method on a miss, or when the entry is due for a refresh and no other
+     * call is refreshing it already.
+     *
+     * @param joinPoint the method execution join point.
+     * @return the unmodifiable cached list, or {@code null} if the method
+     *         returned {@code null}.
+     * @throws Throwable if the method throws on a miss.
+     */
+    public Object get(ProceedingJoinPoint joinPoint) throws Throwable {
+        InvocationKey key = new InvocationKey(joinPoint.getTarget(), joinPoint.getArgs());
+        CachedResult result;
+        try {
+            result = cache.get(key, k -> CachedResult.of(joinPoint));
+        } catch (LoadFailure e) {
+            throw e.getCause();
+        }
+        if (result == null) {
+            return null;
+        }
+        if (refreshNanos > 0 && result.isDue(refreshNanos) && result.refreshing.compareAndSet(false, true)) {
+            return refresh(key, result, joinPoint);
+        }
+        return result.list;
+    }
+
+    /**
+     * Runs the method again for a stale entry. Should the method fail, the
+     * current value is kept and a later call tries again.
+     */
+    private Object refresh(InvocationKey key, CachedResult stale, ProceedingJoinPoint joinPoint) {
+        CachedResult fresh;
+        try {
+            fresh = CachedResult.of(joinPoint);
+        } catch (RuntimeException e) {
+            return keep(stale, e instanceof LoadFailure ? e.getCause() : e);
+        } catch (Error e) {
+            stale.refreshing.set(false);
+            throw e;
+        }
+        if (fresh == null) {
+            // As with a miss, a null result is not cached.
+            cache.asMap().remove(key, stale);
+            return null;
+        }
+        // Only replace the entry this call saw stale, not one that was
+        // invalidated and loaded again meanwhile.
+        cache.asMap().replace(key, stale, fresh);
+        return fresh.list;
+    }
+
+    private static Object keep(CachedResult stale, Throwable failure) {
+        log.warn(">>> ListCache: Cannot refresh a cached list, keeping the current one: {}", failure.toString());
+        stale.refreshing.set(false);
+        return stale.list;
+    }
+
+    /**
+     * @return the underlying Caffeine cache, for statistics and metrics.
+     */
+    public Cache<?, ?> cache() {
+        return cache;
+    }
+
+    /**
+     * An unmodifiable snapshot of a method result, with the time it was taken.
+     * Compared by identity, so that a refresh only replaces the snapshot it
+     * started from.
+     */
+    private static final class CachedResult {
+
+        final List<?> list;
+
+        final long loadedAt = System.nanoTime();
+
+        /** Set by the call refreshing this entry. */
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedResult(List<?> list) {
+            this.list = list;
+        }
+
+        boolean isDue(long refreshNanos) {
+            return System.nanoTime() - loadedAt >= refreshNanos;
+        }
+
+        static CachedResult of(ProceedingJoinPoint joinPoint) {
+            Object result;
+            try {
+                result = joinPoint.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new LoadFailure(e);
+            }
+            // Caffeine does not store null: the next call runs the method again.
+            if (result == null) {
+                return null;
+            }
+            // Compact lists are immutable already, and copying would box them again.
+            List<?> list = (List<?>) result;
+            return new CachedResult(Compactor.isCompact(list) ? list
+                    : Collections.unmodifiableList(new ArrayList<>(list)));
+        }
+    }
+
+    /**
+     * Arguments of an invocation, on a given target instance.
+     */
+    private static final class InvocationKey {
+
+        private final Object target;
+
+        private final Object[] arguments;
+
+        private final int hash;
+
+        InvocationKey(Object target, Object[] arguments) {
+            this.target = target;
+            this.arguments = arguments;
+            this.hash = 31 * System.identityHashCode(target) + Arrays.deepHashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof InvocationKey key && target == key.target
+                    && Arrays.deepEquals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Carries a checked exception of the method through Caffeine.
+     */
+    private static final class LoadFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        LoadFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
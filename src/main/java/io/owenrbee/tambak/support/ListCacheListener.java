@@ -0,0 +1,17 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.reflect.Method;
+
+/**
+ * Notified when the cache of a {@link io.owenrbee.tambak.annotation.CachedList}
+ * method is created, on the method's first call. Used to bind cache metrics.
+ */
+@FunctionalInterface
+public interface ListCacheListener {
+
+    /**
+     * @param method the cached method.
+     * @param cache  its cache.
+     */
+    void onCacheCreated(Method method, ListCache cache);
+}
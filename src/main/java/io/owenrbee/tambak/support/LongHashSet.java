@@ -0,0 +1,122 @@
+package io.owenrbee.tambak.support;
+
+/**
+ * Open-addressing hash set of primitive {@code long} keys with linear probing.
+ * <p>
+ * Used to de-duplicate {@code Integer} and {@code Long} elements without boxing
+ * and without allocating an entry object per element. The key {@code 0} marks
+ * free slots, so it is tracked by a separate flag. Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+
+    private int mask;
+
+    private int size;
+
+    private int resizeAt;
+
+    private boolean containsZero;
+
+    /**
+     * @param expectedSize number of keys the set should hold without resizing.
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds a key to the set.
+     *
+     * @param key the key to add.
+     * @return {@code true} if the key was not present yet.
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        int index = mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return {@code true} if the key is present.
+     */
+    public boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        int index = mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of keys in the set.
+     */
+    public int size() {
+        return size + (containsZero ? 1 : 0);
+    }
+
+    private void rehash(int newCapacity) {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Hash set is full");
+        }
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int index = mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        // Load factor of 0.5 keeps probe sequences short; the largest table is
+        // allowed to fill up almost completely instead.
+        resizeAt = capacity == MAX_CAPACITY ? capacity - 1 : capacity >>> 1;
+    }
+
+    static int capacityFor(int expectedSize) {
+        long capacity = Math.max(MIN_CAPACITY, (long) expectedSize << 1);
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(capacity - 1) << 1);
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
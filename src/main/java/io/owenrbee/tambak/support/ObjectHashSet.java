@@ -0,0 +1,127 @@
+package io.owenrbee.tambak.support;
+
+/**
+ * Open-addressing hash set of arbitrary objects with linear probing, compared
+ * by {@code equals}/{@code hashCode}.
+ * <p>
+ * Unlike {@link java.util.HashSet} it does not allocate a node per element: the
+ * whole set is a single reference array. {@code null} is supported through a
+ * separate flag. Not thread-safe.
+ */
+public final class ObjectHashSet {
+
+    private Object[] keys;
+
+    private int mask;
+
+    private int size;
+
+    private int resizeAt;
+
+    private boolean containsNull;
+
+    /**
+     * @param expectedSize number of elements the set should hold without
+     *                     resizing.
+     */
+    public ObjectHashSet(int expectedSize) {
+        allocate(LongHashSet.capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds an element to the set.
+     *
+     * @param element the element to add, may be {@code null}.
+     * @return {@code true} if no equal element was present yet.
+     */
+    public boolean add(Object element) {
+        return add(element, element != null ? spread(element.hashCode()) : 0);
+    }
+
+    /**
+     * Adds an element whose hash was already computed, for callers that need the
+     * hash themselves, such as {@link ParallelDeduplicator} partitioning by it.
+     *
+     * @param element the element to add, may be {@code null}.
+     * @param hash    {@link #spread(int)} applied to the element's hash code.
+     * @return {@code true} if no equal element was present yet.
+     */
+    public boolean add(Object element, int hash) {
+        if (element == null) {
+            if (containsNull) {
+                return false;
+            }
+            containsNull = true;
+            return true;
+        }
+        int index = hash & mask;
+        Object current;
+        while ((current = keys[index]) != null) {
+            if (current == element || current.equals(element)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = element;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @param element the element to look up, may be {@code null}.
+     * @return {@code true} if an equal element is present.
+     */
+    public boolean contains(Object element) {
+        if (element == null) {
+            return containsNull;
+        }
+        int index = spread(element.hashCode()) & mask;
+        Object current;
+        while ((current = keys[index]) != null) {
+            if (current == element || current.equals(element)) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of elements in the set.
+     */
+    public int size() {
+        return size + (containsNull ? 1 : 0);
+    }
+
+    private void rehash(int newCapacity) {
+        if (keys.length == LongHashSet.MAX_CAPACITY) {
+            throw new IllegalStateException("Hash set is full");
+        }
+        Object[] oldKeys = keys;
+        allocate(newCapacity);
+        for (Object key : oldKeys) {
+            if (key != null) {
+                int index = spread(key.hashCode()) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity == LongHashSet.MAX_CAPACITY ? capacity - 1 : capacity >>> 1;
+    }
+
+    static int spread(int hashCode) {
+        // Many hashCode implementations (Integer, small Strings) differ only in the
+        // low bits; scramble them so linear probing does not cluster.
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,134 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel de-duplication of very large lists, behind
+ * {@link io.owenrbee.tambak.annotation.UniqueList#parallelThreshold()}.
+ * <p>
+ * The result is exactly the one of {@link Deduplicator}: first (or last)
+ * occurrences, in encounter order. The work is split in three phases on the
+ * common {@link ForkJoinPool}, or on the caller's pool when invoked from a
+ * ForkJoin task:
+ * <ol>
+ * <li>keys and their hashes are computed for chunks of the list in
+ * parallel;</li>
+ * <li>the hash space is partitioned, one partition per worker. Equal keys have
+ * equal hashes, so each partition owns its keys entirely and de-duplicates them
+ * with a private {@link ObjectHashSet}, scanning the hashes in encounter order
+ * and marking the index of every first occurrence. No locks and no concurrent
+ * hash table are needed;</li>
+ * <li>the marked elements are gathered in order.</li>
+ * </ol>
+ * The expensive part, hashing and probing with {@code equals}, thus scales with
+ * the number of cores; only the final gather is a sequential memory copy.
+ */
+final class ParallelDeduplicator {
+
+    /** Elements per task when computing keys and hashes. */
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private ParallelDeduplicator() {
+    }
+
+    /**
+     * Whether a list of the given size is worth splitting across the pool.
+     *
+     * @param list      the list to de-duplicate.
+     * @param threshold the minimum size for parallel de-duplication.
+     * @return {@code true} if the list is random-access, large enough and
+     *         there is more than one worker.
+     */
+    static boolean applies(List<?> list, int threshold) {
+        return list.size() >= threshold && list instanceof RandomAccess && parallelism() > 1;
+    }
+
+    /**
+     * Parallel streams run on the pool of the calling task, if any, and on the
+     * common pool otherwise.
+     */
+    private static int parallelism() {
+        return ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism()
+                : ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    /**
+     * Removes elements with duplicate keys from a random-access list.
+     *
+     * @param list     the list to de-duplicate.
+     * @param key      extracts the key elements are compared by, {@code null}
+     *                 to compare whole elements; must be thread-safe.
+     * @param keepLast whether to keep the last element of each key rather than
+     *                 the first.
+     * @param inPlace  whether a mutable {@link ArrayList} may be compacted in
+     *                 place instead of copied.
+     * @return the list holding the unique elements; the input itself if it was
+     *         compacted in place.
+     */
+    static List<Object> unique(List<?> list, Function<Object, ?> key, boolean keepLast, boolean inPlace) {
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        int size = source.size();
+
+        // Phase 1: keys and hashes. Whole elements are their own keys.
+        Object[] keys = key != null ? new Object[size] : null;
+        int[] hashes = new int[size];
+        IntStream.range(0, (size + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().forEach(chunk -> {
+            int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                Object elementKey = key != null ? key.apply(source.get(i)) : source.get(i);
+                if (keys != null) {
+                    keys[i] = elementKey;
+                }
+                hashes[i] = elementKey != null ? ObjectHashSet.spread(elementKey.hashCode()) : 0;
+            }
+        });
+
+        // Phase 2: one partition per worker, owning the keys whose top hash bits
+        // select it. Every partition scans all hashes, but those are cheap
+        // sequential int reads; the costly probing is what gets divided.
+        // The low bits stay free for the slot index in the partition's set.
+        // At least one bit, since an int shift by 32 is a shift by 0.
+        int partitionBits = Math.max(1,
+                32 - Integer.numberOfLeadingZeros(parallelism() - 1));
+        int partitions = 1 << partitionBits;
+        int shift = 32 - partitionBits;
+        boolean[] kept = new boolean[size];
+        IntStream.range(0, partitions).parallel().forEach(partition -> {
+            ObjectHashSet seen = new ObjectHashSet(size / partitions);
+            for (int n = 0; n < size; n++) {
+                int i = keepLast ? size - 1 - n : n;
+                int hash = hashes[i];
+                if (hash >>> shift == partition
+                        && seen.add(keys != null ? keys[i] : source.get(i), hash)) {
+                    kept[i] = true;
+                }
+            }
+        });
+
+        // Phase 3: gather, in encounter order.
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+        List<Object> target = compact ? source : new ArrayList<>();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (kept[i]) {
+                if (compact) {
+                    source.set(count, source.get(i));
+                } else {
+                    target.add(source.get(i));
+                }
+                count++;
+            }
+        }
+        if (compact && count < size) {
+            source.subList(count, size).clear();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,147 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.core.NativeDetector;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiled property accessors, used as de-duplication keys by
+ * {@link io.owenrbee.tambak.annotation.UniqueList#by()}.
+ * <p>
+ * A property is resolved once per element class, to a getter
+ * ({@code getId()}, {@code isId()}), a record-style accessor ({@code id()}) or
+ * a field. Getters are turned into a {@link Function} implementation with
+ * {@link LambdaMetafactory}, which the JIT inlines like a hand-written
+ * lambda; fields, and getters the metafactory cannot reach, are read through a
+ * {@link MethodHandle}, as are all properties in a GraalVM native image. The
+ * result is cached in a {@link ClassValue}, so the per-element cost is one
+ * class lookup plus the accessor call.
+ */
+@Slf4j
+public final class PropertyAccessors {
+
+    private static final Map<String, Function<Object, Object>> BY_PROPERTY = new ConcurrentReferenceHashMap<>();
+
+    private PropertyAccessors() {
+    }
+
+    /**
+     * Returns a function reading the given property of any element. A
+     * {@code null} element has a {@code null} key.
+     *
+     * @param property the property name.
+     * @return the key function, shared by all callers asking for the property.
+     * @throws IllegalArgumentException when applied to an element whose class
+     *                                  has no such property.
+     */
+    public static Function<Object, Object> forProperty(String property) {
+        return BY_PROPERTY.computeIfAbsent(property, PropertyAccessor::new);
+    }
+
+    /**
+     * Key function of one property, with its accessor compiled per element class.
+     */
+    private static final class PropertyAccessor implements Function<Object, Object> {
+
+        private final String property;
+
+        private final ClassValue<Function<Object, Object>> accessors = new ClassValue<>() {
+
+            @Override
+            protected Function<Object, Object> computeValue(Class<?> type) {
+                return compile(type, property);
+            }
+        };
+
+        PropertyAccessor(String property) {
+            this.property = property;
+        }
+
+        @Override
+        public Object apply(Object element) {
+            return element != null ? accessors.get(element.getClass()).apply(element) : null;
+        }
+    }
+
+    private static Function<Object, Object> compile(Class<?> type, String property) {
+        String capitalized = StringUtils.capitalize(property);
+        Method getter = findGetter(type, "get" + capitalized);
+        if (getter == null) {
+            getter = findGetter(type, "is" + capitalized);
+        }
+        if (getter == null) {
+            getter = findGetter(type, property);
+        }
+        try {
+            if (getter != null) {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(getter.getDeclaringClass(),
+                        MethodHandles.lookup());
+                MethodHandle handle = lookup.unreflect(getter);
+                if (NativeDetector.inNativeImage()) {
+                    // No classes can be spun at run time in a native image.
+                    return invoker(handle);
+                }
+                try {
+                    return metafactory(lookup, handle);
+                } catch (Throwable e) {
+                    // Typically a class from another module or class loader.
+                    log.debug(">>> PropertyAccessors: Cannot compile {}, using a method handle: {}", getter,
+                            e.toString());
+                    return invoker(handle);
+                }
+            }
+            Field field = ReflectionUtils.findField(type, property);
+            if (field != null && !Modifier.isStatic(field.getModifiers())) {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(),
+                        MethodHandles.lookup());
+                return invoker(lookup.unreflectGetter(field));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "Property '" + property + "' of " + type.getName() + " is not accessible", e);
+        }
+        throw new IllegalArgumentException("No property '" + property + "' on " + type.getName());
+    }
+
+    private static Method findGetter(Class<?> type, String name) {
+        Method method = ReflectionUtils.findMethod(type, name);
+        return method != null && method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())
+                ? method
+                : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> metafactory(MethodHandles.Lookup lookup, MethodHandle getter)
+            throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class), getter, getter.type().wrap());
+        return (Function<Object, Object>) site.getTarget().invokeExact();
+    }
+
+    private static Function<Object, Object> invoker(MethodHandle accessor) {
+        MethodHandle generic = accessor.asType(MethodType.methodType(Object.class, Object.class));
+        return element -> {
+            try {
+                return generic.invokeExact(element);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read property of " + element.getClass().getName(), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package io.owenrbee.tambak.support;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.owenrbee.tambak.annotation.LimitList;
+import io.owenrbee.tambak.annotation.UniqueList;
+import io.owenrbee.tambak.collection.ReversedList;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tambak transformations as Reactor operators. Only loaded when Reactor is on
+ * the classpath.
+ * <p>
+ * A {@link Flux} is transformed element by element: {@code distinct()} (or
+ * {@code distinctUntilChanged()} for sorted input), by key if requested, and,
+ * for sorting, reversal or keeping last occurrences, a {@code collectList()}
+ * that completes before re-emitting. A page is taken with {@code skip} and
+ * {@code take}, which cancels the source early.
+ * <p>
+ * A {@link Mono} is treated like a future: its value is transformed with
+ * {@code map}, and an empty {@code Mono} falls back to the null guard's empty
+ * value.
+ */
+final class ReactorTransforms {
+
+    /** Stands in for a {@code null} de-duplication key. */
+    private static final Object NULL_KEY = new Object();
+
+    private ReactorTransforms() {
+    }
+
+    static boolean isReactiveType(Class<?> type) {
+        return Flux.class.isAssignableFrom(type) || Mono.class.isAssignableFrom(type);
+    }
+
+    static boolean isMonoType(Class<?> type) {
+        return Mono.class.isAssignableFrom(type);
+    }
+
+    static boolean isPublisher(Object result) {
+        return result instanceof Flux || result instanceof Mono;
+    }
+
+    static Supplier<Object> emptyResult(Class<?> returnType, Supplier<Object> emptyValue) {
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return emptyValue != null ? () -> Mono.fromSupplier(emptyValue) : Mono::empty;
+        }
+        return Flux::empty;
+    }
+
+    static Object apply(Object publisher, TransformPlan plan) {
+        if (publisher instanceof Mono<?> mono) {
+            Mono<Object> transformed = mono.map(plan::applyToValue);
+            Supplier<Object> emptyValue = plan.emptyValue();
+            return emptyValue != null ? transformed.switchIfEmpty(Mono.fromSupplier(emptyValue)) : transformed;
+        }
+
+        @SuppressWarnings("unchecked")
+        Flux<Object> flux = (Flux<Object>) publisher;
+        ElementFilter filter = plan.filter();
+        if (filter != null) {
+            // One predicate per subscription: Reactor tests a subscription's
+            // elements one at a time.
+            Flux<Object> source = flux;
+            flux = Flux.defer(() -> source.filter(filter.newPredicate()));
+        }
+        UniqueList unique = plan.unique();
+        if (unique != null) {
+            Function<Object, ?> key = plan.uniqueKey();
+            if (plan.keepsLast()) {
+                flux = flux.collectList().flatMapIterable(
+                        list -> Deduplicator.unique(list, key, unique.assumeSorted(), true, true));
+            } else if (key != null) {
+                // Reactor rejects null keys.
+                Function<Object, Object> nonNullKey = element -> Objects.requireNonNullElse(key.apply(element),
+                        NULL_KEY);
+                flux = unique.assumeSorted() ? flux.distinctUntilChanged(nonNullKey) : flux.distinct(nonNullKey);
+            } else {
+                flux = unique.assumeSorted() ? flux.distinctUntilChanged() : flux.distinct();
+            }
+        }
+        if (plan.sorted() != null) {
+            int sortLimit = plan.sortLimit();
+            flux = flux.collectList().flatMapIterable(list -> Sorter.sort(list, plan.comparator(), sortLimit, true));
+        }
+        if (plan.reverse() != null) {
+            flux = flux.collectList().flatMapIterable(ReversedList::of);
+        }
+        LimitList limit = plan.limit();
+        if (limit != null) {
+            // take() cancels the source once the page is complete.
+            flux = flux.skip(limit.offset()).take(limit.max());
+        }
+        return flux;
+    }
+}
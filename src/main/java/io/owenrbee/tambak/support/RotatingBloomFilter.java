@@ -0,0 +1,200 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongSupplier;
+
+/**
+ * Bloom filter remembering elements for a sliding time window, in fixed
+ * memory.
+ * <p>
+ * The window is split into {@value #SLICES} - 1 periods, and the filter keeps
+ * one bit array per period plus one for the current period. Elements are added
+ * to the current array and looked up in all of them; when a period ends, the
+ * oldest array is dropped and a fresh one is started. An element is therefore
+ * remembered for at least the window and at most one period longer.
+ * <p>
+ * Every array is sized for all the elements expected per window at
+ * {@code falsePositiveRate / SLICES}, so a lookup over all arrays stays within
+ * the requested rate even if the elements all arrive in one period. Bits are
+ * set with atomic bitwise-or, so the filter is thread-safe without locking;
+ * only the rotation at the end of a period is synchronized.
+ * <p>
+ * Elements are added by a 64-bit hash. Elements with equal hashes are
+ * indistinguishable, so the rate cannot go below the probability that two of
+ * them collide: with 32-bit {@code hashCode}s, about one in four billion per
+ * pair of elements, and more for poorly distributed ones.
+ */
+public final class RotatingBloomFilter {
+
+    static final int SLICES = 4;
+
+    /** Upper bound of the bits per array, 2^36 bits or 8 GB. */
+    private static final long MAX_BITS = 1L << 36;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long periodNanos;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final LongSupplier clock;
+
+    private final long origin;
+
+    private volatile Slices slices;
+
+    /**
+     * @param windowNanos        how long elements are remembered, in
+     *                           nanoseconds.
+     * @param expectedInsertions the number of elements expected per window.
+     * @param falsePositiveRate  the acceptable probability that an element is
+     *                           reported as seen although it was not.
+     */
+    public RotatingBloomFilter(long windowNanos, int expectedInsertions, double falsePositiveRate) {
+        this(windowNanos, expectedInsertions, falsePositiveRate, System::nanoTime);
+    }
+
+    RotatingBloomFilter(long windowNanos, int expectedInsertions, double falsePositiveRate, LongSupplier clock) {
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + windowNanos);
+        }
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        this.periodNanos = Math.max(1, windowNanos / (SLICES - 1));
+        // Optimal Bloom filter parameters for n elements at rate p:
+        // m = -n ln p / (ln 2)^2 bits and k = m / n ln 2 hash functions.
+        // Every array is sized for the whole window, so bursts within one period
+        // do not overload it.
+        double perSlice = expectedInsertions;
+        double ratePerSlice = falsePositiveRate / SLICES;
+        double bits = -perSlice * Math.log(ratePerSlice) / (Math.log(2) * Math.log(2));
+        if (bits > MAX_BITS) {
+            throw new IllegalArgumentException("Filter for " + expectedInsertions + " elements at "
+                    + falsePositiveRate + " exceeds " + MAX_BITS + " bits");
+        }
+        this.hashCount = Math.max(1, (int) Math.round(bits / perSlice * Math.log(2)));
+        this.bitCount = Math.max(1, (long) Math.ceil(bits / Long.SIZE)) * Long.SIZE;
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+        long[][] arrays = new long[SLICES][];
+        for (int i = 0; i < SLICES; i++) {
+            arrays[i] = newArray();
+        }
+        this.slices = new Slices(0, arrays);
+    }
+
+    /**
+     * Adds an element unless it was already added within the window.
+     *
+     * @param hash a hash of the element, all 64 bits of which are used.
+     * @return {@code true} if the element was not seen within the window; it is
+     *         remembered from now on.
+     */
+    public boolean add(long hash) {
+        long[][] arrays = current().arrays;
+        long h1 = mix(hash);
+        long h2 = mix(h1) | 1; // Odd, so the probe sequence visits distinct bits.
+        for (long[] array : arrays) {
+            if (containsAll(array, h1, h2)) {
+                return false;
+            }
+        }
+        return setAll(arrays[0], h1, h2);
+    }
+
+    /**
+     * @return the memory held by the bit arrays, in bytes.
+     */
+    public long sizeInBytes() {
+        return bitCount / Byte.SIZE * SLICES;
+    }
+
+    private boolean containsAll(long[] array, long h1, long h2) {
+        long hash = h1;
+        for (int i = 0; i < hashCount; i++, hash += h2) {
+            long index = index(hash);
+            if (((long) WORDS.getOpaque(array, (int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if any bit was not set yet. When two threads add the
+     *         same element concurrently, at most one of them sees all its bits
+     *         unset, so it is usually reported as new only once.
+     */
+    private boolean setAll(long[] array, long h1, long h2) {
+        boolean changed = false;
+        long hash = h1;
+        for (int i = 0; i < hashCount; i++, hash += h2) {
+            long index = index(hash);
+            long bit = 1L << index;
+            long previous = (long) WORDS.getAndBitwiseOr(array, (int) (index >>> 6), bit);
+            changed |= (previous & bit) == 0;
+        }
+        return changed;
+    }
+
+    /**
+     * Maps a hash uniformly to {@code [0, bitCount)} with a multiplication
+     * rather than a division: the high bits of {@code hash * 2 * bitCount}, with
+     * the hash taken as a 63-bit fraction.
+     */
+    private long index(long hash) {
+        return Math.multiplyHigh(hash & Long.MAX_VALUE, bitCount << 1);
+    }
+
+    private Slices current() {
+        Slices current = slices;
+        long period = (clock.getAsLong() - origin) / periodNanos;
+        if (period == current.period) {
+            return current;
+        }
+        synchronized (this) {
+            current = slices;
+            long elapsed = period - current.period;
+            if (elapsed <= 0) {
+                return current;
+            }
+            // Shift the arrays by the number of periods elapsed, starting fresh
+            // ones for the new periods.
+            long[][] arrays = new long[SLICES][];
+            for (int i = 0; i < SLICES; i++) {
+                arrays[i] = i < elapsed ? newArray() : current.arrays[(int) (i - elapsed)];
+            }
+            current = new Slices(period, arrays);
+            slices = current;
+            return current;
+        }
+    }
+
+    private long[] newArray() {
+        return new long[(int) (bitCount / Long.SIZE)];
+    }
+
+    /**
+     * MurmurHash3's 64-bit finalizer, spreading a hash over all 64 bits.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * The bit arrays of the current period, newest first.
+     */
+    private record Slices(long period, long[][] arrays) {
+    }
+}
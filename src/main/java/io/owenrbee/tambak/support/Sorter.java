@@ -0,0 +1,242 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import io.owenrbee.tambak.annotation.SortedList;
+
+/**
+ * Sorting engine behind {@link SortedList}.
+ * <p>
+ * Without a limit, the elements are copied to an array and sorted with
+ * {@link Arrays#parallelSort(Object[], Comparator)}, which splits large arrays
+ * across the common ForkJoin pool and sorts small ones sequentially. With a
+ * limit {@code k} much smaller than the list, a bounded max-heap of the best
+ * {@code k} elements seen so far is kept instead: O(n log k) comparisons and
+ * O(k) memory. Both are stable.
+ */
+public final class Sorter {
+
+    /** Below {@code size / HEAP_RATIO} elements, selecting beats sorting. */
+    static final int HEAP_RATIO = 4;
+
+    private Sorter() {
+    }
+
+    /**
+     * Builds the comparator of a {@link SortedList} annotation, once per method.
+     *
+     * @param sortedList the sort settings.
+     * @return a comparator by key or natural order, with nulls last.
+     */
+    @SuppressWarnings("unchecked")
+    public static Comparator<Object> comparator(SortedList sortedList) {
+        Comparator<Object> natural = (a, b) -> ((Comparable<Object>) a).compareTo(b);
+        Comparator<Object> keys = Comparator.nullsLast(sortedList.descending() ? natural.reversed() : natural);
+        if (sortedList.by().isEmpty()) {
+            return keys;
+        }
+        return Comparator.comparing(PropertyAccessors.forProperty(sortedList.by()), keys);
+    }
+
+    /**
+     * Sorts a list, keeping at most {@code limit} elements.
+     *
+     * @param list       the list to sort.
+     * @param comparator the sort order.
+     * @param limit      the number of elements to keep, negative for all.
+     * @param inPlace    whether a mutable {@link ArrayList} may be sorted in place
+     *                   instead of copied.
+     * @return the sorted list; the input itself if it was sorted in place.
+     */
+    public static List<Object> sort(List<?> list, Comparator<Object> comparator, int limit, boolean inPlace) {
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        int size = source.size();
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+
+        Object[] sorted;
+        if (limit >= 0 && limit < size / HEAP_RATIO) {
+            sorted = select(source, comparator, limit);
+        } else {
+            sorted = source.toArray();
+            Arrays.parallelSort(sorted, comparator);
+        }
+
+        int kept = limit >= 0 ? Math.min(limit, size) : size;
+        if (!compact) {
+            List<Object> target = new ArrayList<>(kept);
+            for (int i = 0; i < kept; i++) {
+                target.add(sorted[i]);
+            }
+            return target;
+        }
+        for (int i = 0; i < kept; i++) {
+            source.set(i, sorted[i]);
+        }
+        if (kept < size) {
+            source.subList(kept, size).clear();
+        }
+        return source;
+    }
+
+    /**
+     * Selects the first {@code limit} elements in sort order.
+     */
+    private static Object[] select(List<Object> source, Comparator<Object> comparator, int limit) {
+        Selection selection = new Selection(comparator, limit);
+        for (Object element : source) {
+            selection.add(element);
+        }
+        return selection.toSortedArray();
+    }
+
+    /**
+     * Bounded, stable selection of the first {@code limit} elements in sort order,
+     * fed one element at a time. It backs the heap path of
+     * {@link #sort(List, Comparator, int, boolean)} and the {@code topK}
+     * collectors, which never buffer more than {@code limit} elements. Not
+     * thread-safe; partial selections are combined with {@link #merge(Selection)}.
+     */
+    public static final class Selection {
+
+        private final Comparator<Object> comparator;
+
+        private final int limit;
+
+        // Max-heap of indexes: the worst element kept so far sits on top. Among
+        // equal elements the later one counts as worse, which keeps the selection
+        // stable.
+        private final int[] heap;
+
+        private final Object[] elements;
+
+        private int count;
+
+        private int seen;
+
+        /**
+         * @param comparator the sort order.
+         * @param limit      the number of elements to keep.
+         */
+        public Selection(Comparator<Object> comparator, int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit must not be negative: " + limit);
+            }
+            this.comparator = comparator;
+            this.limit = limit;
+            this.heap = new int[limit];
+            this.elements = new Object[limit];
+        }
+
+        /**
+         * Offers the next element in encounter order.
+         *
+         * @param element the element, may be {@code null} if the comparator
+         *                accepts it.
+         */
+        public void add(Object element) {
+            offer(element, seen++);
+        }
+
+        /**
+         * Folds in a selection over elements that came after all elements offered
+         * to this one, as a parallel stream's right-hand partition does.
+         *
+         * @param later the selection to fold in.
+         * @return this selection.
+         */
+        public Selection merge(Selection later) {
+            int offset = seen;
+            for (int i = 0; i < later.count; i++) {
+                offer(later.elements[i], offset + later.heap[i]);
+            }
+            seen += later.seen;
+            return this;
+        }
+
+        /**
+         * @return the selected elements, sorted, ties in encounter order.
+         */
+        public Object[] toSortedArray() {
+            // Back to encounter order, so the stable sort breaks ties by it: sort
+            // the heap slots by source index, both packed into one long.
+            long[] order = new long[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = (long) heap[i] << 32 | i;
+            }
+            Arrays.sort(order);
+            Object[] selected = new Object[count];
+            for (int i = 0; i < count; i++) {
+                selected[i] = elements[(int) order[i]];
+            }
+            Arrays.sort(selected, comparator);
+            return selected;
+        }
+
+        private void offer(Object element, int index) {
+            if (count < limit) {
+                heap[count] = index;
+                elements[count] = element;
+                siftUp(heap, elements, count++, comparator);
+                return;
+            }
+            if (count == 0) {
+                return;
+            }
+            int compared = comparator.compare(element, elements[0]);
+            // Only strictly better than the worst kept one, or equal but earlier:
+            // ties otherwise lose to it, as it came first.
+            if (compared < 0 || (compared == 0 && index < heap[0])) {
+                heap[0] = index;
+                elements[0] = element;
+                siftDown(heap, elements, count, comparator);
+            }
+        }
+    }
+
+    private static boolean worse(int[] heap, Object[] elements, int a, int b, Comparator<Object> comparator) {
+        int compared = comparator.compare(elements[a], elements[b]);
+        return compared > 0 || (compared == 0 && heap[a] > heap[b]);
+    }
+
+    private static void siftUp(int[] heap, Object[] elements, int position, Comparator<Object> comparator) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!worse(heap, elements, position, parent, comparator)) {
+                return;
+            }
+            swap(heap, elements, position, parent);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, Object[] elements, int count, Comparator<Object> comparator) {
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= count) {
+                return;
+            }
+            if (child + 1 < count && worse(heap, elements, child + 1, child, comparator)) {
+                child++;
+            }
+            if (!worse(heap, elements, child, position, comparator)) {
+                return;
+            }
+            swap(heap, elements, position, child);
+            position = child;
+        }
+    }
+
+    private static void swap(int[] heap, Object[] elements, int a, int b) {
+        int index = heap[a];
+        heap[a] = heap[b];
+        heap[b] = index;
+        Object element = elements[a];
+        elements[a] = elements[b];
+        elements[b] = element;
+    }
+}
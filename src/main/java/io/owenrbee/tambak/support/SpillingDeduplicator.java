@@ -0,0 +1,229 @@
+package io.owenrbee.tambak.support;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memory-bounded de-duplication of very large lists, behind
+ * {@link io.owenrbee.tambak.annotation.UniqueList#maxHeapBytes()}.
+ * <p>
+ * The result is exactly the one of {@link Deduplicator}: first (or last)
+ * occurrences, in encounter order. Only the seen-set moves off the heap: it is
+ * an open-addressing hash table in a temporary file mapped with
+ * {@link FileChannel#map}, one 8-byte slot per entry holding the key's hash
+ * and the list position of the element it came from. Keys themselves are never
+ * copied; on a hash match the element at that position is read back from the
+ * list and compared with {@code equals}, so collisions cannot merge distinct
+ * elements. The heap cost is then flat, whatever the number of distinct
+ * elements, and the operating system pages the table in and out as needed.
+ * <p>
+ * The file is deleted once the table is closed. Should it not be possible to
+ * create it, the list is de-duplicated on the heap as usual.
+ */
+@Slf4j
+final class SpillingDeduplicator {
+
+    /** Bytes per slot: the spread hash, then the list position plus one. */
+    private static final int SLOT_BYTES = 8;
+
+    /** Slots per mapped segment, 1 GiB: a single mapping cannot exceed 2 GiB. */
+    private static final int SEGMENT_SHIFT = 27;
+
+    private SpillingDeduplicator() {
+    }
+
+    /**
+     * Whether the heap seen-set for a list of the given size would exceed the
+     * budget.
+     *
+     * @param list         the list to de-duplicate.
+     * @param maxHeapBytes the heap budget of the seen-set.
+     * @return {@code true} if the list is random-access and its seen-set would
+     *         not fit in {@code maxHeapBytes}.
+     */
+    static boolean applies(List<?> list, long maxHeapBytes) {
+        return list instanceof RandomAccess && heapBytes(list.size()) > maxHeapBytes;
+    }
+
+    /**
+     * Estimated heap footprint of the hash set {@link Deduplicator} builds for
+     * {@code size} elements: its slot array, counting a full 8 bytes per slot.
+     */
+    static long heapBytes(int size) {
+        return (long) LongHashSet.capacityFor(size) * Long.BYTES;
+    }
+
+    /**
+     * Removes elements with duplicate keys from a random-access list.
+     *
+     * @param list     the list to de-duplicate.
+     * @param key      extracts the key elements are compared by, {@code null}
+     *                 to compare whole elements.
+     * @param keepLast whether to keep the last element of each key rather than
+     *                 the first.
+     * @param inPlace  whether a mutable {@link ArrayList} may be compacted in
+     *                 place instead of copied.
+     * @return the list holding the unique elements; the input itself if it was
+     *         compacted in place.
+     */
+    static List<Object> unique(List<?> list, Function<Object, ?> key, boolean keepLast, boolean inPlace) {
+        @SuppressWarnings("unchecked")
+        List<Object> source = (List<Object>) list;
+        Function<Object, ?> keyOf = key != null ? key : Function.identity();
+        int size = source.size();
+
+        MappedHashTable seen;
+        try {
+            seen = new MappedHashTable(size);
+        } catch (IOException e) {
+            log.warn(">>> SpillingDeduplicator: Cannot map a seen-set for {} elements, de-duplicating on the heap: {}",
+                    size, e.toString());
+            return Deduplicator.unique(list, key, false, keepLast, inPlace);
+        }
+
+        boolean compact = inPlace && source.getClass() == ArrayList.class;
+        List<Object> target = compact ? source : new ArrayList<>();
+        int kept = 0;
+        try (seen) {
+            if (keepLast) {
+                // Walk backwards marking last occurrences, then keep them in
+                // encounter order. Nothing is written during the walk, so the
+                // positions in the table stay valid.
+                BitSet last = new BitSet(size);
+                for (int i = size - 1; i >= 0; i--) {
+                    if (seen.add(keyOf.apply(source.get(i)), source, i, keyOf)) {
+                        last.set(i);
+                    }
+                }
+                for (int i = last.nextSetBit(0); i >= 0; i = last.nextSetBit(i + 1)) {
+                    kept = keep(target, kept, source.get(i), compact);
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    Object element = source.get(i);
+                    // Positions refer to the target: compacting overwrites the
+                    // source before the read index, but never a kept element.
+                    if (seen.add(keyOf.apply(element), target, kept, keyOf)) {
+                        kept = keep(target, kept, element, compact);
+                    }
+                }
+            }
+        }
+
+        if (compact && kept < size) {
+            source.subList(kept, size).clear();
+        }
+        return target;
+    }
+
+    private static int keep(List<Object> target, int kept, Object element, boolean compact) {
+        if (compact) {
+            target.set(kept, element);
+        } else {
+            target.add(element);
+        }
+        return kept + 1;
+    }
+
+    /**
+     * Fixed-size hash set of list positions, with linear probing, backed by a
+     * memory-mapped temporary file. Sized for every element to be distinct, so
+     * it never rehashes. Not thread-safe.
+     */
+    static final class MappedHashTable implements AutoCloseable {
+
+        private final FileChannel channel;
+
+        private final MappedByteBuffer[] segments;
+
+        private final long mask;
+
+        private boolean containsNull;
+
+        /**
+         * @param expectedSize the number of keys the table must hold.
+         * @throws IOException if the temporary file cannot be created or mapped.
+         */
+        MappedHashTable(int expectedSize) throws IOException {
+            long capacity = Math.max(16, Long.highestOneBit(Math.max(1, (long) expectedSize << 1) - 1) << 1);
+            this.mask = capacity - 1;
+            Path file = Files.createTempFile("tambak-unique-", ".bin");
+            // The file is unlinked on close; the mapping keeps the pages alive
+            // until the buffers are collected.
+            this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            try {
+                long segmentSlots = 1L << SEGMENT_SHIFT;
+                int count = (int) ((capacity + segmentSlots - 1) >>> SEGMENT_SHIFT);
+                this.segments = new MappedByteBuffer[count];
+                for (int i = 0; i < count; i++) {
+                    long slots = Math.min(segmentSlots, capacity - i * segmentSlots);
+                    // Mapping past the end grows the file sparsely, zero-filled:
+                    // every slot starts out free.
+                    segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * segmentSlots * SLOT_BYTES,
+                            slots * SLOT_BYTES);
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Adds a key, unless an equal one is present.
+         *
+         * @param key      the key to add, may be {@code null}.
+         * @param elements the list the stored positions refer to.
+         * @param position the position in {@code elements} of the key's element,
+         *                 stored if the key is new.
+         * @param keyOf    reads the key back from a stored element.
+         * @return {@code true} if no equal key was present yet.
+         */
+        boolean add(Object key, List<Object> elements, int position, Function<Object, ?> keyOf) {
+            if (key == null) {
+                if (containsNull) {
+                    return false;
+                }
+                containsNull = true;
+                return true;
+            }
+            int hash = ObjectHashSet.spread(key.hashCode());
+            long slot = Integer.toUnsignedLong(hash) & mask;
+            while (true) {
+                MappedByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+                int offset = (int) (slot & ((1L << SEGMENT_SHIFT) - 1)) * SLOT_BYTES;
+                int stored = segment.getInt(offset + Integer.BYTES);
+                if (stored == 0) {
+                    segment.putInt(offset, hash);
+                    segment.putInt(offset + Integer.BYTES, position + 1);
+                    return true;
+                }
+                if (segment.getInt(offset) == hash && Objects.equals(keyOf.apply(elements.get(stored - 1)), key)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug(">>> SpillingDeduplicator: Cannot close the seen-set file: {}", e.toString());
+            }
+        }
+    }
+}
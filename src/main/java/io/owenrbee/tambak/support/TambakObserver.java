@@ -0,0 +1,84 @@
+package io.owenrbee.tambak.support;
+
+import java.util.List;
+
+/**
+ * Callback notified of every advised invocation by the Tambak aspect applying
+ * the method's {@link TransformPlan}.
+ * <p>
+ * Implementations are called on the invoking thread, on the hot path: they must
+ * be cheap and must not throw. Sizes are {@code -1} when the result is not a
+ * collection, for instance a stream or a future whose elements are only
+ * produced later.
+ */
+@FunctionalInterface
+public interface TambakObserver {
+
+    /** Observer doing nothing; the aspects skip all timing when it is in use. */
+    TambakObserver NONE = (plan, targetNanos, overheadNanos, inputSize, outputSize, nullSubstituted) -> {
+    };
+
+    /**
+     * @param plan            the plan that was applied.
+     * @param targetNanos     time spent in the advised method itself.
+     * @param overheadNanos   time spent in the Tambak advice, outside the method.
+     * @param inputSize       size of the result returned by the method, or
+     *                        {@code -1}.
+     * @param outputSize      size of the transformed result, or {@code -1}.
+     * @param nullSubstituted whether a {@code null} result was replaced by an
+     *                        empty value.
+     */
+    void onInvocation(TransformPlan plan, long targetNanos, long overheadNanos, int inputSize, int outputSize,
+            boolean nullSubstituted);
+
+    /**
+     * Tells the aspects whether this observer currently records anything, such
+     * as a Flight Recorder event type that is only enabled while a recording
+     * runs. While no observer is active, the aspects skip all timing as if no
+     * observer was registered.
+     *
+     * @return {@code true} if {@link #onInvocation} should be called.
+     */
+    default boolean isActive() {
+        return true;
+    }
+
+    /**
+     * Combines several observers into one.
+     *
+     * @param observers the observers to notify, in order.
+     * @return a single observer, {@link #NONE} if the list is empty.
+     */
+    static TambakObserver composite(List<? extends TambakObserver> observers) {
+        if (observers.isEmpty()) {
+            return NONE;
+        }
+        if (observers.size() == 1) {
+            return observers.get(0);
+        }
+        TambakObserver[] all = observers.toArray(new TambakObserver[0]);
+        return new TambakObserver() {
+
+            @Override
+            public void onInvocation(TransformPlan plan, long targetNanos, long overheadNanos, int inputSize,
+                    int outputSize, boolean nullSubstituted) {
+                for (TambakObserver observer : all) {
+                    if (observer.isActive()) {
+                        observer.onInvocation(plan, targetNanos, overheadNanos, inputSize, outputSize,
+                                nullSubstituted);
+                    }
+                }
+            }
+
+            @Override
+            public boolean isActive() {
+                for (TambakObserver observer : all) {
+                    if (observer.isActive()) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.owenrbee.tambak.annotation.CachedList;
+import io.owenrbee.tambak.annotation.CompactList;
+import io.owenrbee.tambak.annotation.DistinctAcrossCalls;
+import io.owenrbee.tambak.annotation.FilterList;
+import io.owenrbee.tambak.annotation.LimitList;
+import io.owenrbee.tambak.annotation.MustNotNullList;
+import io.owenrbee.tambak.annotation.ReverseList;
+import io.owenrbee.tambak.annotation.SortedList;
+import io.owenrbee.tambak.annotation.UniqueList;
+
+/**
+ * Settings applying to every Tambak-advised method, read on each call so they
+ * can change while the application runs.
+ * <p>
+ * Initialized from the {@code tambak.*} properties when the aspects are
+ * registered, and again whenever the environment is refreshed.
+ */
+public final class TambakSettings {
+
+    /** The Tambak annotations that can be switched off. */
+    public static final List<Class<? extends Annotation>> ANNOTATION_TYPES = List.of(DistinctAcrossCalls.class,
+            CachedList.class, MustNotNullList.class, FilterList.class, UniqueList.class, SortedList.class, ReverseList.class,
+            LimitList.class, CompactList.class);
+
+    private static volatile boolean copyOnWrite;
+
+    /** Patterns of the methods each annotation is switched off for. */
+    private static volatile Map<Class<? extends Annotation>, List<String>> disabled = Map.of();
+
+    /** Annotations whose aspect is not registered, switched off everywhere. */
+    private static volatile Set<Class<? extends Annotation>> unregistered = Set.of();
+
+    private TambakSettings() {
+    }
+
+    /**
+     * @return {@code true} if lists returned by advised methods are never
+     *         modified. See {@link #setCopyOnWrite(boolean)}.
+     */
+    public static boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    /**
+     * Makes the transformations leave the lists returned by advised methods
+     * untouched, whatever their {@code inPlace} or {@code mode} attributes say,
+     * except for {@link io.owenrbee.tambak.annotation.ReverseMode#VIEW views}.
+     * They then work on a copy owned by the caller, so methods returning a
+     * shared or cached list can be called concurrently: there is nothing to lock
+     * and no caller ever sees another caller's half-transformed list. Costs one
+     * copy per call, for the first transformation that changes the list.
+     * <p>
+     * Set with the {@code tambak.copy-on-write} property.
+     *
+     * @param copyOnWrite {@code true} to never modify returned lists.
+     */
+    public static void setCopyOnWrite(boolean copyOnWrite) {
+        TambakSettings.copyOnWrite = copyOnWrite;
+    }
+
+    /**
+     * Switches annotations off for some methods, replacing all previous
+     * patterns. A pattern is a package, a fully qualified class name, a class
+     * name followed by {@code .} and a method name, or {@code *} for all
+     * methods.
+     * <p>
+     * Plans are rebuilt on the next call of each method, so a switched-off
+     * annotation costs nothing afterwards: its aspect finds a plan without it
+     * and proceeds, as for a method without the annotation. Set with the
+     * {@code tambak.disabled.<annotation>} properties, for example
+     * {@code tambak.disabled.unique-list=com.example.search,com.example.feed.FeedService.poll}.
+     *
+     * @param patterns the method patterns, per annotation type.
+     */
+    public static synchronized void setDisabled(Map<Class<? extends Annotation>, ? extends Collection<String>> patterns) {
+        Map<Class<? extends Annotation>, List<String>> copy = new LinkedHashMap<>();
+        patterns.forEach((annotationType, list) -> {
+            if (!list.isEmpty()) {
+                copy.put(annotationType, List.copyOf(list));
+            }
+        });
+        if (!copy.equals(disabled)) {
+            disabled = Map.copyOf(copy);
+            AdvisedMethods.invalidate();
+        }
+    }
+
+    /**
+     * Switches an annotation on or off for the methods matching a pattern, on
+     * top of the current patterns.
+     *
+     * @param annotationType the annotation type.
+     * @param pattern        the method pattern, see {@link #setDisabled(Map)}.
+     * @param enabled        {@code false} to switch the annotation off,
+     *                       {@code true} to remove the pattern again.
+     */
+    public static synchronized void setEnabled(Class<? extends Annotation> annotationType, String pattern,
+            boolean enabled) {
+        Map<Class<? extends Annotation>, List<String>> patterns = new LinkedHashMap<>(disabled);
+        List<String> list = new ArrayList<>(patterns.getOrDefault(annotationType, List.of()));
+        list.remove(pattern);
+        if (!enabled) {
+            list.add(pattern);
+        }
+        patterns.put(annotationType, list);
+        setDisabled(patterns);
+    }
+
+    /**
+     * Switches annotations off for all methods because their aspect is not
+     * registered, for example with {@code tambak.reverse-list.enabled=false}.
+     * Without this, a plan could elect the missing aspect to apply the fused
+     * transformations, and the aspects of the other annotations, leaving it to
+     * that one, would apply nothing.
+     * <p>
+     * Set when the aspects are registered, replacing the previous types.
+     *
+     * @param annotationTypes the annotation types without a registered aspect.
+     */
+    public static synchronized void setUnregistered(Collection<Class<? extends Annotation>> annotationTypes) {
+        Set<Class<? extends Annotation>> copy = Set.copyOf(annotationTypes);
+        if (!copy.equals(unregistered)) {
+            unregistered = copy;
+            AdvisedMethods.invalidate();
+        }
+    }
+
+    /**
+     * @return the annotation types without a registered aspect.
+     */
+    public static Set<Class<? extends Annotation>> getUnregistered() {
+        return unregistered;
+    }
+
+    /**
+     * @return the patterns of the methods each annotation is switched off for.
+     */
+    public static Map<Class<? extends Annotation>, List<String>> getDisabled() {
+        return disabled;
+    }
+
+    /**
+     * Checked when a plan is built, never on the call path.
+     *
+     * A pattern matches the method by the class it is called on as well as by
+     * the class declaring it, so that switching an annotation off for a class
+     * also covers the methods it inherits.
+     *
+     * @param annotationType the annotation type.
+     * @param method         the advised method.
+     * @param targetClass    the class of the instances the method is called on.
+     * @return {@code true} if the annotation is switched off for the method, or
+     *         its aspect is not registered.
+     */
+    public static boolean isDisabled(Class<? extends Annotation> annotationType, Method method,
+            Class<?> targetClass) {
+        if (unregistered.contains(annotationType)) {
+            return true;
+        }
+        List<String> patterns = disabled.get(annotationType);
+        if (patterns == null) {
+            return false;
+        }
+        return matches(patterns, targetClass.getName() + "." + method.getName())
+                || (targetClass != method.getDeclaringClass()
+                        && matches(patterns, method.getDeclaringClass().getName() + "." + method.getName()));
+    }
+
+    private static boolean matches(List<String> patterns, String name) {
+        for (String pattern : patterns) {
+            if (pattern.equals("*") || name.equals(pattern) || name.startsWith(pattern + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param name the simple name of the annotation, such as {@code UniqueList},
+     *             or its property name, such as {@code unique-list}.
+     * @return the annotation type.
+     * @throws IllegalArgumentException if there is no such Tambak annotation.
+     */
+    public static Class<? extends Annotation> annotationType(String name) {
+        String normalized = name.replace("-", "").replace("@", "");
+        for (Class<? extends Annotation> annotationType : ANNOTATION_TYPES) {
+            if (annotationType.getSimpleName().equalsIgnoreCase(normalized)) {
+                return annotationType;
+            }
+        }
+        throw new IllegalArgumentException("No Tambak annotation named '" + name + "'");
+    }
+}
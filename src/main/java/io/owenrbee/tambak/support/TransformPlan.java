@@ -0,0 +1,604 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.util.ClassUtils;
+
+import io.owenrbee.tambak.annotation.CompactList;
+import io.owenrbee.tambak.annotation.FilterList;
+import io.owenrbee.tambak.annotation.KeepPolicy;
+import io.owenrbee.tambak.annotation.LimitList;
+import io.owenrbee.tambak.annotation.MustNotNullList;
+import io.owenrbee.tambak.annotation.ReverseList;
+import io.owenrbee.tambak.annotation.SortedList;
+import io.owenrbee.tambak.annotation.UniqueList;
+import io.owenrbee.tambak.collection.LazySet;
+import io.owenrbee.tambak.collection.ReversedList;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The list transformations requested by the Tambak annotations present on a
+ * single method, applied together in one well-defined order:
+ * <ol>
+ * <li>{@link MustNotNullList}: a {@code null} result becomes an empty list,
+ * stream, iterator, future or publisher,</li>
+ * <li>{@link FilterList}: elements not matching a compiled SpEL predicate are
+ * dropped, in the same pass as de-duplication when both are present,</li>
+ * <li>{@link UniqueList}: duplicates are removed, by whole element or by key,
+ * keeping first or last occurrences,</li>
+ * <li>{@link SortedList}: the list is sorted, or its top elements selected,</li>
+ * <li>{@link ReverseList}: the list is reversed, in place, as a view or as a
+ * copy depending on its {@link ReverseList#mode() mode},</li>
+ * <li>{@link LimitList}: one page of the result is kept,</li>
+ * <li>{@link CompactList}: a list of {@code Integer}s or {@code Long}s is
+ * packed into a primitive array; when the steps above allow it, they run on
+ * that array instead (see {@link Compactor}).</li>
+ * </ol>
+ * <p>
+ * When several annotations are stacked on a method, every Tambak aspect still
+ * intercepts the call, but only the aspect of the first annotation in the order
+ * above (the <em>leader</em>) applies the plan; the others simply proceed. The
+ * whole pipeline then runs as a single pass with at most one output list
+ * allocated: de-duplication either compacts the result in place or copies it
+ * into a new list, which is then reversed in place because it is not shared
+ * with anyone yet.
+ * <p>
+ * Annotations switched off in the {@link TambakSettings} are left out of the
+ * plan, as if they were absent. Arrays go through the same steps with
+ * array-native algorithms (see {@link ArrayTransforms}).
+ */
+@Slf4j
+public final class TransformPlan {
+
+    /** Tambak annotations, in the order their transformations are applied. */
+    private static final List<Class<? extends Annotation>> ORDER = List.of(
+            MustNotNullList.class, FilterList.class, UniqueList.class, SortedList.class, ReverseList.class, LimitList.class,
+            CompactList.class);
+
+    /** Whether Reactor is on the classpath, so Flux and Mono results can occur. */
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+            TransformPlan.class.getClassLoader());
+
+    private final Method method;
+
+    /**
+     * Declared type of the value transformed: the return type, or for futures
+     * and {@code Mono} the type they complete with.
+     */
+    private final Class<?> valueType;
+
+    /** Produces the substitute for a {@code null} result, {@code null} if none. */
+    private final Supplier<Object> emptyResult;
+
+    /**
+     * Produces the substitute for a {@code null} value, {@code null} if none. For
+     * synchronous results the value is the result itself; for futures and
+     * {@code Mono} it is the value they complete with.
+     */
+    private final Supplier<Object> emptyValue;
+
+    /** Predicate of {@link FilterList}, parsed once; {@code null} if absent. */
+    private final ElementFilter filter;
+
+    private final UniqueList unique;
+
+    /** Key elements are de-duplicated by, {@code null} for whole elements. */
+    private final Function<Object, Object> uniqueKey;
+
+    private final boolean keepLast;
+
+    private final SortedList sorted;
+
+    /** Sort order of {@link #sorted}, built once. */
+    private final Comparator<Object> comparator;
+
+    private final ReverseList reverse;
+
+    private final LimitList limit;
+
+    /**
+     * Number of elements to select when sorting, negative for all. A following
+     * page only needs its {@code offset + max} first elements sorted, unless a
+     * reversal in between needs all of them.
+     */
+    private final int sortLimit;
+
+    /** Whether list results are packed; only if a compact list can be returned. */
+    private final boolean compact;
+
+    /** Whether the whole pipeline can run on unboxed values. */
+    private final boolean compactsPrimitives;
+
+    /** Whether anything beyond the null guard applies to non-null values. */
+    private final boolean transforms;
+
+    private final Class<? extends Annotation> leader;
+
+    private final int annotationCount;
+
+    /** The Tambak annotations present on the method and not switched off. */
+    private final Set<Class<? extends Annotation>> enabled;
+
+    private TransformPlan(Method method, Class<?> targetClass) {
+        this.method = method;
+        MustNotNullList mustNotNull = annotation(method, targetClass, MustNotNullList.class);
+        Class<?> returnType = method.getReturnType();
+        this.valueType = isSingleValueAsync(returnType) ? firstTypeArgument(method.getGenericReturnType())
+                : returnType;
+        this.emptyValue = mustNotNull != null ? emptyValueFor(valueType, mustNotNull) : null;
+        this.emptyResult = mustNotNull != null ? emptyResultFor(returnType, emptyValue) : null;
+        FilterList filterList = annotation(method, targetClass, FilterList.class);
+        this.filter = filterList != null ? ElementFilter.of(filterList, method.getDeclaringClass().getClassLoader())
+                : null;
+        this.unique = annotation(method, targetClass, UniqueList.class);
+        this.uniqueKey = unique != null && !unique.by().isEmpty() ? PropertyAccessors.forProperty(unique.by())
+                : null;
+        this.keepLast = unique != null && unique.keep() == KeepPolicy.LAST;
+        this.sorted = annotation(method, targetClass, SortedList.class);
+        this.comparator = sorted != null ? Sorter.comparator(sorted) : null;
+        this.reverse = annotation(method, targetClass, ReverseList.class);
+        this.limit = checkPage(method, annotation(method, targetClass, LimitList.class));
+        this.sortLimit = sortLimitFor(sorted, reverse, limit);
+        this.compact = annotation(method, targetClass, CompactList.class) != null
+                && valueType.isAssignableFrom(List.class);
+        this.compactsPrimitives = compact && Compactor.supports(this);
+        this.transforms = filter != null || unique != null || sorted != null || reverse != null || limit != null || compact;
+
+        Class<? extends Annotation> first = null;
+        int count = 0;
+        for (Class<? extends Annotation> annotationType : ORDER) {
+            if (annotation(method, targetClass, annotationType) != null) {
+                if (first == null) {
+                    first = annotationType;
+                }
+                count++;
+            }
+        }
+        this.leader = first;
+        this.annotationCount = count;
+
+        Set<Class<? extends Annotation>> enabled = new HashSet<>();
+        for (Class<? extends Annotation> annotationType : TambakSettings.ANNOTATION_TYPES) {
+            if (annotation(method, targetClass, annotationType) != null) {
+                enabled.add(annotationType);
+            }
+        }
+        this.enabled = Set.copyOf(enabled);
+    }
+
+    /**
+     * @return the annotation of the method, or {@code null} if it is absent or
+     *         switched off in the {@link TambakSettings}.
+     */
+    private static <A extends Annotation> A annotation(Method method, Class<?> targetClass, Class<A> annotationType) {
+        A annotation = method.getAnnotation(annotationType);
+        return annotation != null && !TambakSettings.isDisabled(annotationType, method, targetClass) ? annotation
+                : null;
+    }
+
+    /**
+     * Rejects a page that cannot be taken, naming the method, rather than
+     * failing on every call with an error from wherever the page is cut.
+     */
+    private static LimitList checkPage(Method method, LimitList limit) {
+        if (limit != null && (limit.max() < 0 || limit.offset() < 0)) {
+            throw new IllegalArgumentException("@LimitList max and offset must not be negative on "
+                    + AdvisedMethods.signature(method) + ": max = " + limit.max() + ", offset = " + limit.offset());
+        }
+        return limit;
+    }
+
+    /**
+     * The null guard only makes sense if an empty value can be assigned to the
+     * declared value type. Immutable substitutes are shared; modifiable ones only
+     * cost their own, storage-less instance: {@link ArrayList}, {@link HashMap}
+     * and {@link TreeMap} allocate their storage on the first insertion, and
+     * {@link LazySet} stands in for {@link java.util.HashSet}, which does not.
+     */
+    private static Supplier<Object> emptyValueFor(Class<?> valueType, MustNotNullList mustNotNull) {
+        boolean modifiable = mustNotNull.modifiable();
+        if (valueType == Stream.class) {
+            return Stream::empty; // Streams are single-use, always a new one.
+        }
+        if (valueType == Iterator.class) {
+            return Collections::emptyIterator;
+        }
+        if (valueType == Object.class) {
+            return null;
+        }
+        if (valueType == Optional.class) {
+            return Optional::empty;
+        }
+        if (valueType.isArray()) {
+            // A zero-length array cannot be modified, one instance serves all calls.
+            Object emptyArray = Array.newInstance(valueType.getComponentType(), 0);
+            return () -> emptyArray;
+        }
+        if (List.class.isAssignableFrom(valueType)
+                || (valueType != Object.class && valueType.isAssignableFrom(List.class))) {
+            return modifiable ? ArrayList::new : Collections::emptyList;
+        }
+        if (valueType.isAssignableFrom(LazySet.class)) {
+            return modifiable ? LazySet::new : Collections::emptySet;
+        }
+        if (valueType.isAssignableFrom(TreeSet.class)) {
+            return modifiable ? TreeSet::new : Collections::emptyNavigableSet;
+        }
+        if (valueType.isAssignableFrom(HashMap.class)) {
+            return modifiable ? HashMap::new : Collections::emptyMap;
+        }
+        if (valueType.isAssignableFrom(TreeMap.class)) {
+            return modifiable ? TreeMap::new : Collections::emptyNavigableMap;
+        }
+        return null;
+    }
+
+    private static int sortLimitFor(SortedList sorted, ReverseList reverse, LimitList limit) {
+        if (sorted == null) {
+            return -1;
+        }
+        if (limit == null || reverse != null) {
+            return sorted.limit();
+        }
+        int pageEnd = (int) Math.min(Integer.MAX_VALUE, (long) limit.offset() + limit.max());
+        return sorted.limit() >= 0 ? Math.min(sorted.limit(), pageEnd) : pageEnd;
+    }
+
+    private static Supplier<Object> emptyResultFor(Class<?> returnType, Supplier<Object> emptyValue) {
+        if (CompletionStage.class.isAssignableFrom(returnType)) {
+            return () -> CompletableFuture.completedFuture(emptyValue != null ? emptyValue.get() : null);
+        }
+        if (REACTOR_PRESENT && ReactorTransforms.isReactiveType(returnType)) {
+            return ReactorTransforms.emptyResult(returnType, emptyValue);
+        }
+        return emptyValue;
+    }
+
+    /**
+     * Whether the return type eventually produces a single value, the one the
+     * transformations apply to.
+     */
+    private static boolean isSingleValueAsync(Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType)
+                || (REACTOR_PRESENT && ReactorTransforms.isMonoType(returnType));
+    }
+
+    private static Class<?> firstTypeArgument(Type genericType) {
+        if (genericType instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType parameterizedArgument) {
+                argument = parameterizedArgument.getRawType();
+            }
+            if (argument instanceof Class<?> argumentClass) {
+                return argumentClass;
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Reads the Tambak annotations of the given method into a plan. Plans are
+     * immutable; advice code gets them cached from
+     * {@link AdvisedMethods#plan(org.aspectj.lang.JoinPoint)}.
+     *
+     * @param method the advised method, as declared on the target class.
+     * @return the plan for the method.
+     */
+    public static TransformPlan of(Method method) {
+        return of(method, method.getDeclaringClass());
+    }
+
+    /**
+     * Reads the Tambak annotations of the given method into a plan, for calls
+     * on instances of the given class. Patterns naming that class switch
+     * annotations off for the methods it inherits too, see
+     * {@link TambakSettings#setDisabled(java.util.Map)}.
+     *
+     * @param method      the advised method, as declared on the target class.
+     * @param targetClass the class of the instances the method is called on.
+     * @return the plan for the method.
+     */
+    public static TransformPlan of(Method method, Class<?> targetClass) {
+        return new TransformPlan(method, targetClass);
+    }
+
+    /**
+     * @return the advised method this plan was built for.
+     */
+    public Method method() {
+        return method;
+    }
+
+    /**
+     * @return {@code true} if the plan removes duplicate elements.
+     */
+    public boolean removesDuplicates() {
+        return unique != null;
+    }
+
+    /**
+     * Whether the aspect handling the given annotation type is the one that
+     * applies this plan.
+     *
+     * @param annotationType the annotation handled by the calling aspect.
+     * @return {@code true} if the caller must apply the plan, {@code false} if
+     *         another Tambak aspect does it.
+     */
+    public boolean isAppliedBy(Class<? extends Annotation> annotationType) {
+        return leader == annotationType;
+    }
+
+    /**
+     * @param annotationType a Tambak annotation type.
+     * @return {@code true} if the annotation is present on the method and not
+     *         switched off in the {@link TambakSettings}.
+     */
+    public boolean isEnabled(Class<? extends Annotation> annotationType) {
+        return enabled.contains(annotationType);
+    }
+
+    /**
+     * @return {@code true} if more than one Tambak annotation is present, so the
+     *         plan fuses several transformations.
+     */
+    public boolean isStacked() {
+        return annotationCount > 1;
+    }
+
+    /**
+     * Applies all transformations of the plan to a method result.
+     * <p>
+     * Lists are transformed eagerly. Streams, iterators and other iterables are
+     * wrapped so that the transformations run as their elements are pulled.
+     * Futures and Reactor publishers get the transformations composed onto them
+     * as operators, so the calling thread is never blocked.
+     *
+     * @param result the value returned by the advised method.
+     * @return the transformed result.
+     */
+    public Object apply(Object result) {
+        if (result == null) {
+            // A fresh empty value is already unique and reversed.
+            return emptyResult != null ? emptyResult.get() : null;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            // Runs on whichever thread completes the stage.
+            return stage.thenApply(this::applyToValue);
+        }
+        if (REACTOR_PRESENT && ReactorTransforms.isPublisher(result)) {
+            return ReactorTransforms.apply(result, this);
+        }
+        return applyToValue(result);
+    }
+
+    /**
+     * Applies the transformations to a synchronously available value.
+     */
+    Object applyToValue(Object value) {
+        if (value == null) {
+            return emptyValue != null ? emptyValue.get() : null;
+        }
+        if (!transforms) {
+            // Only a null guard: sets, maps, optionals and arrays pass untouched.
+            return value;
+        }
+        if (value instanceof List<?> list) {
+            return applyToList(list);
+        }
+        if (value.getClass().isArray()) {
+            return ArrayTransforms.apply(this, value);
+        }
+        if (value instanceof Stream<?> stream) {
+            return applyToStream(stream);
+        }
+        if (value instanceof Iterator<?> iterator) {
+            return applyToIterator(iterator);
+        }
+        if (value instanceof Iterable<?> iterable && valueType.isAssignableFrom(Iterable.class)) {
+            // Every call to iterator() gets its own transformation state.
+            return (Iterable<Object>) () -> applyToIterator(iterable.iterator());
+        }
+        return value;
+    }
+
+    ElementFilter filter() {
+        return filter;
+    }
+
+    UniqueList unique() {
+        return unique;
+    }
+
+    Function<Object, Object> uniqueKey() {
+        return uniqueKey;
+    }
+
+    boolean keepsLast() {
+        return keepLast;
+    }
+
+    SortedList sorted() {
+        return sorted;
+    }
+
+    Comparator<Object> comparator() {
+        return comparator;
+    }
+
+    int sortLimit() {
+        return sortLimit;
+    }
+
+    LimitList limit() {
+        return limit;
+    }
+
+    ReverseList reverse() {
+        return reverse;
+    }
+
+    Supplier<Object> emptyValue() {
+        return emptyValue;
+    }
+
+    private List<?> applyToList(List<?> list) {
+        if (compactsPrimitives) {
+            List<?> packed = Compactor.apply(this, list);
+            if (packed != null) {
+                return packed;
+            }
+            // Not only Integers or only Longs: the boxed pipeline, left unpacked.
+        }
+        List<?> transformed = list;
+        // Read once, so all steps of this call agree.
+        boolean mayModify = !TambakSettings.isCopyOnWrite();
+        if (unique != null) {
+            transformed = unique(list, unique.inPlace() && mayModify);
+        } else if (filter != null) {
+            transformed = Deduplicator.filter(list, filter.newPredicate(), mayModify);
+        }
+        if (sorted != null) {
+            transformed = Sorter.sort(transformed, comparator, sortLimit,
+                    (sorted.inPlace() && mayModify) || transformed != list);
+        }
+        if (reverse != null) {
+            // A list produced by an earlier step is not shared with anyone yet.
+            transformed = reverse(transformed, transformed != list, mayModify);
+        }
+        if (limit != null) {
+            transformed = page(transformed);
+        }
+        if (compact && !compactsPrimitives) {
+            transformed = Compactor.compact(transformed);
+        }
+        return transformed;
+    }
+
+    /**
+     * De-duplicates a list as {@link #unique} asks, off the heap past its
+     * budget or in parallel past its threshold, dropping the elements the
+     * {@link #filter} rejects in the same pass.
+     */
+    List<Object> unique(List<?> list, boolean inPlace) {
+        if (!unique.assumeSorted() && SpillingDeduplicator.applies(list, unique.maxHeapBytes())) {
+            List<?> matching = filter != null ? Deduplicator.filter(list, filter.newPredicate(), inPlace) : list;
+            return SpillingDeduplicator.unique(matching, uniqueKey, keepLast, inPlace || matching != list);
+        }
+        if (!unique.assumeSorted() && ParallelDeduplicator.applies(list, unique.parallelThreshold())) {
+            List<?> matching = filter != null ? Deduplicator.filter(list, filter.newPredicate(), inPlace) : list;
+            return ParallelDeduplicator.unique(matching, uniqueKey, keepLast, inPlace || matching != list);
+        }
+        return Deduplicator.unique(list, filter != null ? filter.newPredicate() : null, uniqueKey,
+                unique.assumeSorted(), keepLast, inPlace);
+    }
+
+    private Stream<?> applyToStream(Stream<?> stream) {
+        Stream<?> transformed = stream;
+        if (filter != null) {
+            transformed = LazyTransforms.filter(transformed, filter);
+        }
+        if (unique != null) {
+            transformed = LazyTransforms.distinct(transformed, uniqueKey, unique.assumeSorted(), keepLast);
+        }
+        if (sorted != null) {
+            transformed = LazyTransforms.sorted(transformed, comparator, sortLimit);
+        }
+        if (reverse != null) {
+            transformed = LazyTransforms.reversed(transformed);
+        }
+        if (limit != null) {
+            transformed = LazyTransforms.page(transformed, limit.offset(), limit.max());
+        }
+        return transformed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterator<Object> applyToIterator(Iterator<?> iterator) {
+        Iterator<?> transformed = iterator;
+        if (filter != null) {
+            transformed = LazyTransforms.filter(transformed, filter.newPredicate());
+        }
+        if (unique != null) {
+            transformed = LazyTransforms.distinct(transformed, uniqueKey, unique.assumeSorted(), keepLast);
+        }
+        if (sorted != null) {
+            transformed = LazyTransforms.sorted(transformed, comparator, sortLimit);
+        }
+        if (reverse != null) {
+            transformed = LazyTransforms.reversed(transformed);
+        }
+        if (limit != null) {
+            transformed = LazyTransforms.page(transformed, limit.offset(), limit.max());
+        }
+        return (Iterator<Object>) transformed;
+    }
+
+    private List<?> reverse(List<?> list, boolean owned, boolean mayModify) {
+        switch (reverse.mode()) {
+            case VIEW:
+                return ReversedList.of(list);
+            case COPY:
+                if (!owned) {
+                    return reversedCopy(list);
+                }
+                Collections.reverse(list);
+                return list;
+            case IN_PLACE:
+            default:
+                if (!owned && !mayModify) {
+                    // Copy-on-write: the list may be shared with concurrent callers.
+                    return reversedCopy(list);
+                }
+                try {
+                    Collections.reverse(list); // Reverse the list in-place.
+                    return list;
+                } catch (UnsupportedOperationException e) {
+                    // Collections.reverse fails on the very first write, so the list
+                    // is still intact; hand back a reversed copy instead.
+                    log.debug(">>> TransformPlan: List {} is not modifiable, reversing a copy.",
+                            list.getClass().getName());
+                    return reversedCopy(list);
+                }
+        }
+    }
+
+    /**
+     * O(1) view of the requested page.
+     */
+    private List<?> page(List<?> list) {
+        int size = list.size();
+        int from = Math.min(limit.offset(), size);
+        int to = (int) Math.min(size, (long) from + limit.max());
+        return from == 0 && to == size ? list : list.subList(from, to);
+    }
+
+    private static List<Object> reversedCopy(List<?> list) {
+        List<Object> copy = new ArrayList<>(list.size());
+        ListIterator<?> backwards = list.listIterator(list.size());
+        while (backwards.hasPrevious()) {
+            copy.add(backwards.previous());
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,159 @@
+package io.owenrbee.tambak.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.owenrbee.tambak.annotation.KeepPolicy;
+import io.owenrbee.tambak.support.Deduplicator;
+import io.owenrbee.tambak.support.ObjectHashSet;
+import io.owenrbee.tambak.support.Sorter;
+
+/**
+ * {@link Collector}s applying the Tambak list transformations while a stream is
+ * collected, with the semantics of the annotations and of {@link TambakLists}.
+ * <p>
+ * Unlike {@code stream.distinct().collect(...)} or
+ * {@code stream.sorted().limit(k)}, they build the final list directly:
+ * de-duplication drops repeats as they are accumulated, into the same
+ * open-addressing {@link ObjectHashSet} the aspects use, and {@link #topK} never
+ * holds more than {@code k} elements. All collectors keep encounter order in
+ * parallel streams. The returned lists are mutable {@link ArrayList}s.
+ */
+public final class TambakCollectors {
+
+    private TambakCollectors() {
+    }
+
+    /**
+     * @param <T> the element type.
+     * @return a collector of the unique elements, first occurrences in encounter
+     *         order.
+     */
+    public static <T> Collector<T, ?, List<T>> toUniqueList() {
+        return Collector.of(() -> new UniqueAccumulator<T>(null), UniqueAccumulator::add,
+                UniqueAccumulator::merge, accumulator -> accumulator.elements);
+    }
+
+    /**
+     * @param <T> the element type.
+     * @param key extracts the key elements are compared by.
+     * @return a collector of the first element of each key, in encounter order.
+     */
+    public static <T> Collector<T, ?, List<T>> uniqueBy(Function<? super T, ?> key) {
+        return uniqueBy(key, KeepPolicy.FIRST);
+    }
+
+    /**
+     * Keeping last occurrences needs the whole stream: elements are buffered and
+     * de-duplicated in place once the stream is exhausted.
+     *
+     * @param <T>  the element type.
+     * @param key  extracts the key elements are compared by.
+     * @param keep which element of each key to keep.
+     * @return a collector of one element per key, in encounter order.
+     */
+    public static <T> Collector<T, ?, List<T>> uniqueBy(Function<? super T, ?> key, KeepPolicy keep) {
+        Objects.requireNonNull(key, "key");
+        if (keep == KeepPolicy.LAST) {
+            Function<Object, ?> keyOf = TambakLists.erase(key);
+            return Collector.of(TambakCollectors::<T>buffer, List::add, TambakCollectors::concat,
+                    buffer -> {
+                        @SuppressWarnings("unchecked")
+                        List<T> unique = (List<T>) Deduplicator.unique(buffer, keyOf, false, true, true);
+                        return unique;
+                    });
+        }
+        return Collector.of(() -> new UniqueAccumulator<T>(key), UniqueAccumulator::add,
+                UniqueAccumulator::merge, accumulator -> accumulator.elements);
+    }
+
+    /**
+     * @param <T> the element type.
+     * @return a collector of the elements in reverse encounter order.
+     */
+    public static <T> Collector<T, ?, List<T>> toReversedList() {
+        return Collector.of(TambakCollectors::<T>buffer, List::add, TambakCollectors::concat, list -> {
+            Collections.reverse(list);
+            return list;
+        });
+    }
+
+    /**
+     * @param <T> the element type.
+     * @return a collector of the unique elements, last one first.
+     */
+    public static <T> Collector<T, ?, List<T>> uniqueReversed() {
+        return Collector.of(() -> new UniqueAccumulator<T>(null), UniqueAccumulator::add,
+                UniqueAccumulator::merge, accumulator -> {
+                    Collections.reverse(accumulator.elements);
+                    return accumulator.elements;
+                });
+    }
+
+    /**
+     * @param <T>        the element type.
+     * @param k          the number of elements to keep.
+     * @param comparator the sort order.
+     * @return a collector of the first {@code k} elements in sort order, ties in
+     *         encounter order, holding at most {@code k} elements at any time.
+     */
+    public static <T> Collector<T, ?, List<T>> topK(int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        Comparator<Object> order = TambakLists.erase(comparator);
+        return Collector.of(() -> new Sorter.Selection(order, k), Sorter.Selection::add, Sorter.Selection::merge,
+                selection -> {
+                    @SuppressWarnings("unchecked")
+                    List<T> selected = (List<T>) new ArrayList<>(Arrays.asList(selection.toSortedArray()));
+                    return selected;
+                });
+    }
+
+    private static <T> List<T> buffer() {
+        return new ArrayList<>();
+    }
+
+    private static <T> List<T> concat(List<T> left, List<T> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    /**
+     * Elements whose key was not seen yet, in encounter order.
+     */
+    private static final class UniqueAccumulator<T> {
+
+        private final Function<? super T, ?> key;
+
+        private final ObjectHashSet seen = new ObjectHashSet(16);
+
+        private final List<T> elements = new ArrayList<>();
+
+        UniqueAccumulator(Function<? super T, ?> key) {
+            this.key = key;
+        }
+
+        void add(T element) {
+            if (seen.add(key != null ? key.apply(element) : element)) {
+                elements.add(element);
+            }
+        }
+
+        UniqueAccumulator<T> merge(UniqueAccumulator<T> later) {
+            // The right-hand partition came later: its elements only survive if
+            // their key is new to this one.
+            for (T element : later.elements) {
+                add(element);
+            }
+            return this;
+        }
+    }
+}
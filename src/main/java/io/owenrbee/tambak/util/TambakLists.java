@@ -0,0 +1,160 @@
+package io.owenrbee.tambak.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.owenrbee.tambak.annotation.KeepPolicy;
+import io.owenrbee.tambak.collection.ReversedList;
+import io.owenrbee.tambak.support.Deduplicator;
+import io.owenrbee.tambak.support.Sorter;
+
+/**
+ * The Tambak list transformations as plain static methods, for code that does
+ * not go through a Spring proxy: static utilities, lambdas, hot inner loops.
+ * <p>
+ * The methods run the same engine as the annotations ({@link Deduplicator},
+ * {@link Sorter}, {@link ReversedList}), so the results are the same, but the
+ * input list is never modified: every method returns a new list or a view. A
+ * {@code null} list passes through as {@code null}, except for
+ * {@link #nonNull(List)}.
+ */
+public final class TambakLists {
+
+    private TambakLists() {
+    }
+
+    /**
+     * Same as {@code @MustNotNullList}.
+     *
+     * @param <T>  the element type.
+     * @param list the list, may be {@code null}.
+     * @return the list itself, or a new empty {@link ArrayList} for {@code null}.
+     */
+    public static <T> List<T> nonNull(List<T> list) {
+        return list != null ? list : new ArrayList<>();
+    }
+
+    /**
+     * Same as {@code @UniqueList}: drops repeated elements, keeping the first
+     * occurrence of each in encounter order.
+     *
+     * @param <T>  the element type.
+     * @param list the list, may be {@code null}.
+     * @return a new list of the unique elements.
+     */
+    public static <T> List<T> unique(List<T> list) {
+        if (list == null) {
+            return null;
+        }
+        return cast(Deduplicator.unique(list, false, false));
+    }
+
+    /**
+     * Same as {@code @UniqueList(by = ...)}, keeping the first element of each
+     * key.
+     *
+     * @param <T>  the element type.
+     * @param list the list, may be {@code null}.
+     * @param key  extracts the key elements are compared by.
+     * @return a new list of the elements with unique keys.
+     */
+    public static <T> List<T> uniqueBy(List<T> list, Function<? super T, ?> key) {
+        return uniqueBy(list, key, KeepPolicy.FIRST);
+    }
+
+    /**
+     * Same as {@code @UniqueList(by = ..., keep = ...)}.
+     *
+     * @param <T>  the element type.
+     * @param list the list, may be {@code null}.
+     * @param key  extracts the key elements are compared by.
+     * @param keep which element of each key to keep.
+     * @return a new list of the elements with unique keys.
+     */
+    public static <T> List<T> uniqueBy(List<T> list, Function<? super T, ?> key, KeepPolicy keep) {
+        Objects.requireNonNull(key, "key");
+        if (list == null) {
+            return null;
+        }
+        return cast(Deduplicator.unique(list, erase(key), false, keep == KeepPolicy.LAST, false));
+    }
+
+    /**
+     * Same as {@code @ReverseList(mode = VIEW)}: O(1), nothing is copied.
+     *
+     * @param <T>  the element type.
+     * @param list the list, may be {@code null}.
+     * @return a reversed view of the list.
+     */
+    public static <T> List<T> reversed(List<T> list) {
+        return list != null ? ReversedList.of(list) : null;
+    }
+
+    /**
+     * Same as {@code @UniqueList @ReverseList}: the unique elements, last one
+     * first. The reversal happens in place on the de-duplicated copy, so only
+     * one list is allocated.
+     *
+     * @param <T>  the element type.
+     * @param list the list, may be {@code null}.
+     * @return a new list of the unique elements in reverse order.
+     */
+    public static <T> List<T> uniqueReversed(List<T> list) {
+        List<T> unique = unique(list);
+        if (unique != null) {
+            Collections.reverse(unique);
+        }
+        return unique;
+    }
+
+    /**
+     * Same as {@code @SortedList}: a stable sort.
+     *
+     * @param <T>        the element type.
+     * @param list       the list, may be {@code null}.
+     * @param comparator the sort order.
+     * @return a new sorted list.
+     */
+    public static <T> List<T> sorted(List<T> list, Comparator<? super T> comparator) {
+        return topK(list, -1, comparator);
+    }
+
+    /**
+     * Same as {@code @SortedList @LimitList(max = k)}: the first {@code k}
+     * elements in sort order, ties in encounter order. When {@code k} is much
+     * smaller than the list, only a bounded heap of {@code k} elements is kept
+     * instead of sorting everything.
+     *
+     * @param <T>        the element type.
+     * @param list       the list, may be {@code null}.
+     * @param k          the number of elements to keep, negative for all.
+     * @param comparator the sort order.
+     * @return a new list of at most {@code k} elements.
+     */
+    public static <T> List<T> topK(List<T> list, int k, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+        if (list == null) {
+            return null;
+        }
+        return cast(Sorter.sort(list, erase(comparator), k, false));
+    }
+
+    @SuppressWarnings("unchecked")
+    static Function<Object, ?> erase(Function<?, ?> key) {
+        return (Function<Object, ?>) key;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Comparator<Object> erase(Comparator<?> comparator) {
+        return (Comparator<Object>) comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<Object> list) {
+        return (List<T>) list;
+    }
+}
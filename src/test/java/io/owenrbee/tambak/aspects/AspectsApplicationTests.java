@@ -1,6 +1,16 @@
 package io.owenrbee.tambak.aspects;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -10,14 +20,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import io.owenrbee.tambak.aspect.CachedListAspect;
 import io.owenrbee.tambak.aspect.MustNotNullListAspect;
 import io.owenrbee.tambak.aspect.ReverseListAspect;
 import io.owenrbee.tambak.aspect.UniqueListAspect;
+import io.owenrbee.tambak.collection.CompactIntList;
+import io.owenrbee.tambak.collection.CompactLongList;
+import io.owenrbee.tambak.collection.LazySet;
 import io.owenrbee.tambak.config.EnableTambakAnnotations;
+import io.owenrbee.tambak.metrics.TambakEndpoint;
+import io.owenrbee.tambak.metrics.TambakMetrics;
+import io.owenrbee.tambak.service.Customer;
 import io.owenrbee.tambak.service.DataService;
+import io.owenrbee.tambak.support.TambakSettings;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
+import java.util.RandomAccess;
 
 @SpringBootTest
 @Slf4j
@@ -48,11 +70,26 @@ class AspectsApplicationTests {
 		public MustNotNullListAspect mustNotNullListAspect() {
 			return new MustNotNullListAspect();
 		}
+
+		// Registry the Tambak metrics are published to.
+		@Bean
+		public MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
 	}
 
 	@Autowired // Automatically injects the DataService bean from the test context
 	private DataService dataService;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private TambakEndpoint tambakEndpoint;
+
+	@Autowired
+	private CachedListAspect cachedListAspect;
+
 	/**
 	 * Test case to verify that a List of Strings returned by an @Reverse annotated
 	 * method is correctly reversed by the aspect.
@@ -85,6 +122,46 @@ class AspectsApplicationTests {
 		Assertions.assertEquals(expectedReversedOrder, actualResult, "List of integers should be reversed.");
 	}
 
+	/**
+	 * Test case to verify that an immutable list is reversed through a copy
+	 * instead of failing with UnsupportedOperationException.
+	 */
+	@Test
+	void testGetImmutableItemsIsReversed() {
+		log.debug("\n--- Test: Calling getImmutableItems() ---");
+		Assertions.assertEquals(Arrays.asList("Three", "Two", "One"), dataService.getImmutableItems());
+	}
+
+	/**
+	 * Test case to verify that VIEW mode returns a random-access reversed view
+	 * without modifying the shared list.
+	 */
+	@Test
+	void testGetSharedNumbersAsViewIsReversedView() {
+		log.debug("\n--- Test: Calling getSharedNumbersAsView() ---");
+		List<Integer> actualResult = dataService.getSharedNumbersAsView();
+
+		Assertions.assertEquals(Arrays.asList(4, 3, 2, 1), actualResult, "View should read the list back to front.");
+		Assertions.assertInstanceOf(RandomAccess.class, actualResult, "View of an ArrayList should be RandomAccess.");
+		Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), DataService.SHARED_NUMBERS,
+				"Shared list should not be modified.");
+	}
+
+	/**
+	 * Test case to verify that COPY mode returns a reversed copy without modifying
+	 * the shared list.
+	 */
+	@Test
+	void testGetSharedNumbersAsCopyIsReversedCopy() {
+		log.debug("\n--- Test: Calling getSharedNumbersAsCopy() ---");
+		List<Integer> actualResult = dataService.getSharedNumbersAsCopy();
+
+		Assertions.assertEquals(Arrays.asList(4, 3, 2, 1), actualResult);
+		Assertions.assertNotSame(DataService.SHARED_NUMBERS, actualResult);
+		Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), DataService.SHARED_NUMBERS,
+				"Shared list should not be modified.");
+	}
+
 	/**
 	 * Test case to ensure that methods WITHOUT the @Reverse annotation are NOT
 	 * affected
@@ -136,6 +213,33 @@ class AspectsApplicationTests {
 				"List of integers should have duplicates removed and order preserved.");
 	}
 
+	/**
+	 * Test case to verify that a List of Longs returned as an ArrayList has its
+	 * duplicates removed while preserving order.
+	 */
+	@Test
+	void testGetIdsWithDuplicatesIsMadeUnique() {
+		log.debug("\n--- Test: Calling getIdsWithDuplicates() ---");
+		List<Long> actualResult = dataService.getIdsWithDuplicates();
+
+		Assertions.assertEquals(25, actualResult.size(), "Only the 25 distinct IDs should remain.");
+		for (int i = 0; i < 25; i++) {
+			Assertions.assertEquals(i, actualResult.get(i), "First-occurrence order should be preserved.");
+		}
+	}
+
+	/**
+	 * Test case to verify that a sorted list is de-duplicated with
+	 * assumeSorted.
+	 */
+	@Test
+	void testGetSortedItemsWithDuplicatesIsMadeUnique() {
+		log.debug("\n--- Test: Calling getSortedItemsWithDuplicates() ---");
+		List<String> expectedUniqueOrder = Arrays.asList("Apple", "Banana", "Cherry");
+
+		Assertions.assertEquals(expectedUniqueOrder, dataService.getSortedItemsWithDuplicates());
+	}
+
 	// --- Tests for @MustNotNullList on methods ---
 
 	/**
@@ -172,6 +276,31 @@ class AspectsApplicationTests {
 				"List should be unmodifiable.");
 	}
 
+	/**
+	 * Null sets, maps, optionals and arrays are replaced by empty ones. The
+	 * modifiable set only allocates storage once something is added, and the
+	 * empty array is shared between calls.
+	 */
+	@Test
+	void testMustNotNullListOnOtherContainers() {
+		Set<String> tags = dataService.getNullableTags();
+		Assertions.assertInstanceOf(LazySet.class, tags);
+		Assertions.assertTrue(tags.isEmpty());
+		Assertions.assertTrue(tags.add("a"));
+		Assertions.assertEquals(Set.of("a"), tags);
+
+		Map<String, Integer> settings = dataService.getNullableSettings();
+		Assertions.assertTrue(settings.isEmpty());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> settings.put("a", 1));
+
+		Assertions.assertEquals(Optional.empty(), dataService.findNullableName());
+
+		String[] codes = dataService.getNullableCodes();
+		Assertions.assertEquals(0, codes.length);
+		Assertions.assertSame(codes, dataService.getNullableCodes());
+		Assertions.assertEquals(0, dataService.getNullableCustomersArray().length);
+	}
+
 	/**
 	 * Test case to ensure @MustNotNullList does not alter an already non-null empty
 	 * list.
@@ -203,4 +332,523 @@ class AspectsApplicationTests {
 		Assertions.assertFalse(result.isEmpty());
 		Assertions.assertEquals(Arrays.asList(true, false), result);
 	}
+
+	// --- Tests for stacked annotations ---
+
+	/**
+	 * Test case to verify that stacked annotations are applied in plan order:
+	 * duplicates are removed first (keeping first occurrences), then the result is
+	 * reversed.
+	 */
+	@Test
+	void testGetStackedItemsIsUniqueThenReversed() {
+		log.debug("\n--- Test: Calling getStackedItems() ---");
+		List<String> expected = Arrays.asList("Green", "Blue", "Red");
+
+		List<String> actualResult = dataService.getStackedItems();
+		log.debug("Test Result (stacked): {}", actualResult);
+
+		Assertions.assertEquals(expected, actualResult, "Stacked annotations should apply unique, then reverse.");
+	}
+
+	/**
+	 * Test case to verify that a null result of a method with stacked annotations
+	 * becomes a modifiable empty list.
+	 */
+	@Test
+	void testGetStackedNullItems() {
+		log.debug("\n--- Test: Calling getStackedNullItems() ---");
+		List<String> result = dataService.getStackedNullItems();
+
+		Assertions.assertNotNull(result, "@MustNotNullList should return a non-null list.");
+		Assertions.assertTrue(result.isEmpty());
+		result.add("test");
+		Assertions.assertEquals(1, result.size(), "List should be modifiable.");
+	}
+
+	// --- Tests for lazy sequences ---
+
+	/**
+	 * Test case to verify that a Stream is de-duplicated lazily: taking the first
+	 * three elements of an infinite stream must terminate.
+	 */
+	@Test
+	void testStreamNumbersWithDuplicatesIsLazilyUnique() {
+		log.debug("\n--- Test: Calling streamNumbersWithDuplicates() ---");
+		List<Integer> actualResult = dataService.streamNumbersWithDuplicates().limit(3).toList();
+
+		Assertions.assertEquals(Arrays.asList(0, 1, 2), actualResult);
+	}
+
+	/**
+	 * Test case to verify that a de-duplicated stream stays correct when the
+	 * caller turns it parallel after the method returned.
+	 */
+	@Test
+	void testStreamTurnedParallelIsUnique() {
+		log.debug("\n--- Test: Calling streamRepeatedNumbers() ---");
+		List<Integer> actualResult = dataService.streamRepeatedNumbers(1_000_000).parallel().toList();
+
+		Assertions.assertEquals(IntStream.range(0, 100_000).boxed().toList(), actualResult);
+	}
+
+	/**
+	 * Test case to verify that a null Stream becomes an empty stream.
+	 */
+	@Test
+	void testStreamNullItemsIsEmptyStream() {
+		log.debug("\n--- Test: Calling streamNullItems() ---");
+		Stream<String> result = dataService.streamNullItems();
+
+		Assertions.assertNotNull(result, "@MustNotNullList should return a non-null stream.");
+		Assertions.assertEquals(0, result.count());
+	}
+
+	/**
+	 * Test case to verify that an Iterator is reversed.
+	 */
+	@Test
+	void testIterateItemsIsReversed() {
+		log.debug("\n--- Test: Calling iterateItems() ---");
+		List<String> actualResult = new ArrayList<>();
+		dataService.iterateItems().forEachRemaining(actualResult::add);
+
+		Assertions.assertEquals(Arrays.asList("Z", "Y", "X"), actualResult);
+	}
+
+	/**
+	 * Test case to verify that stacked annotations apply to every iteration of an
+	 * Iterable.
+	 */
+	@Test
+	void testGetIterableItemsIsUniqueThenReversed() {
+		log.debug("\n--- Test: Calling getIterableItems() ---");
+		Iterable<String> iterable = dataService.getIterableItems();
+
+		for (int pass = 0; pass < 2; pass++) {
+			List<String> actualResult = new ArrayList<>();
+			iterable.forEach(actualResult::add);
+			Assertions.assertEquals(Arrays.asList("C", "B", "A"), actualResult);
+		}
+	}
+
+	// --- Tests for asynchronous results ---
+
+	/**
+	 * Test case to verify that the transformations are composed onto a future
+	 * without blocking: the result only completes once the source does.
+	 */
+	@Test
+	void testGetItemsWhenDoneIsTransformedOnCompletion() {
+		log.debug("\n--- Test: Calling getItemsWhenDone() ---");
+		CompletableFuture<List<String>> source = new CompletableFuture<>();
+		CompletableFuture<List<String>> result = dataService.getItemsWhenDone(source);
+
+		Assertions.assertFalse(result.isDone(), "The aspect must not wait for the future.");
+		source.complete(Arrays.asList("A", "B", "A", "C"));
+		Assertions.assertEquals(Arrays.asList("C", "B", "A"), result.join());
+	}
+
+	/**
+	 * Test case to verify that a future completing with null yields an empty
+	 * list.
+	 */
+	@Test
+	void testGetNullItemsAsyncIsEmptyList() {
+		log.debug("\n--- Test: Calling getNullItemsAsync() ---");
+		List<String> result = dataService.getNullItemsAsync().join();
+
+		Assertions.assertNotNull(result, "@MustNotNullList should complete with a non-null list.");
+		Assertions.assertTrue(result.isEmpty());
+	}
+
+	/**
+	 * Test case to verify that a Flux is de-duplicated.
+	 */
+	@Test
+	void testFluxNumbersWithDuplicatesIsMadeUnique() {
+		log.debug("\n--- Test: Calling fluxNumbersWithDuplicates() ---");
+		Assertions.assertEquals(Arrays.asList(10, 20, 30),
+				dataService.fluxNumbersWithDuplicates().collectList().block());
+	}
+
+	/**
+	 * Test case to verify that an empty Mono emits an empty list.
+	 */
+	@Test
+	void testMonoEmptyItemsEmitsEmptyList() {
+		log.debug("\n--- Test: Calling monoEmptyItems() ---");
+		List<String> result = dataService.monoEmptyItems().block();
+
+		Assertions.assertNotNull(result, "@MustNotNullList should emit a list for an empty Mono.");
+		Assertions.assertTrue(result.isEmpty());
+	}
+
+	/**
+	 * Test case to verify that @UniqueList(by = "id") keeps the first customer of
+	 * each ID.
+	 */
+	@Test
+	void testGetCustomersIsMadeUniqueById() {
+		log.debug("\n--- Test: Calling getCustomers() ---");
+		List<String> names = dataService.getCustomers().stream().map(Customer::name).toList();
+		Assertions.assertEquals(Arrays.asList("Ana", "Ben", "Cid"), names);
+	}
+
+	/**
+	 * Test case to verify that keep = LAST keeps the latest customer of each ID,
+	 * in the order of those latest entries.
+	 */
+	@Test
+	void testGetLatestCustomersKeepsLastById() {
+		log.debug("\n--- Test: Calling getLatestCustomers() ---");
+		List<String> names = dataService.getLatestCustomers().stream().map(Customer::name).toList();
+		Assertions.assertEquals(Arrays.asList("Ana Cruz", "Cid", "Ben Reyes"), names);
+	}
+
+	/**
+	 * Test case to verify that @SortedList with a limit keeps the top customers.
+	 */
+	@Test
+	void testGetTopCustomersKeepsHighestIds() {
+		log.debug("\n--- Test: Calling getTopCustomers() ---");
+		List<String> names = dataService.getTopCustomers().stream().map(Customer::name).toList();
+		Assertions.assertEquals(Arrays.asList("Eve", "Dan"), names);
+	}
+
+	/**
+	 * Test case to verify that a stream is de-duplicated, then sorted.
+	 */
+	@Test
+	void testStreamSortedUniqueWords() {
+		log.debug("\n--- Test: Calling streamSortedUniqueWords() ---");
+		Assertions.assertEquals(Arrays.asList("apple", "fig", "pear"), dataService.streamSortedUniqueWords().toList());
+	}
+
+	/**
+	 * Test case to verify that @LimitList returns a sub-list view of the page.
+	 */
+	@Test
+	void testGetNumbersPageIsSubListView() {
+		log.debug("\n--- Test: Calling getNumbersPage() ---");
+		List<Integer> page = dataService.getNumbersPage();
+		Assertions.assertEquals(Arrays.asList(3, 4, 5), page);
+		Assertions.assertFalse(page instanceof ArrayList, "The page should be a view, not a copy.");
+	}
+
+	/**
+	 * Test case to verify that @FilterList returns the matching values of a
+	 * shared primitive array in a new array, and leaves the shared one as it
+	 * is.
+	 */
+	@Test
+	void testFilterListLeavesSharedArraysAlone() {
+		log.debug("\n--- Test: Calling getSharedEvenCodes() ---");
+		int[] codes = DataService.SHARED_CODES.clone();
+		long[] ids = DataService.SHARED_IDS.clone();
+
+		Assertions.assertArrayEquals(new int[] { 2, 4, 6 }, dataService.getSharedEvenCodes());
+		Assertions.assertArrayEquals(new long[] { 4L, 2L }, dataService.getSharedEvenIds());
+		Assertions.assertArrayEquals(codes, DataService.SHARED_CODES);
+		Assertions.assertArrayEquals(ids, DataService.SHARED_IDS);
+	}
+
+	/**
+	 * Test case to verify that a negative @LimitList offset is rejected with an
+	 * error naming the method.
+	 */
+	@Test
+	void testNegativePageIsRejected() {
+		log.debug("\n--- Test: Calling getNumbersBeforeFirstPage() ---");
+		IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> dataService.getNumbersBeforeFirstPage());
+		Assertions.assertTrue(e.getMessage().contains("DataService.getNumbersBeforeFirstPage()"), e.getMessage());
+	}
+
+	/**
+	 * Test case to verify that a limited infinite stream stops pulling after the
+	 * page.
+	 */
+	@Test
+	void testStreamNumbersForeverStopsAfterLimit() {
+		log.debug("\n--- Test: Calling streamNumbersForever() ---");
+		int pulled = DataService.STREAMED_NUMBERS.get();
+		Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4), dataService.streamNumbersForever().toList());
+		Assertions.assertEquals(pulled + 5, DataService.STREAMED_NUMBERS.get());
+	}
+
+	/**
+	 * Test case to verify that a page of a sorted list is selected correctly.
+	 */
+	@Test
+	void testGetCustomersSecondPage() {
+		log.debug("\n--- Test: Calling getCustomersSecondPage() ---");
+		List<String> names = dataService.getCustomersSecondPage().stream().map(Customer::name).toList();
+		Assertions.assertEquals(Arrays.asList("Cid", "Dan"), names);
+	}
+
+	/**
+	 * Test case to verify that @FilterList drops the elements not matching its
+	 * SpEL predicate, alone and stacked on @UniqueList.
+	 */
+	@Test
+	void testFilterList() {
+		log.debug("\n--- Test: Calling getRecentCustomers() ---");
+		for (int i = 0; i < 3; i++) {
+			// Later calls run the compiled expression.
+			List<Long> ids = dataService.getRecentCustomers().stream().map(Customer::id).toList();
+			Assertions.assertEquals(Arrays.asList(3L, 4L), ids);
+		}
+		Assertions.assertEquals(Arrays.asList("Ann", "Bob", "Cid"), dataService.getDistinctLongNames());
+		Assertions.assertEquals(Arrays.asList("pear", "plum"), dataService.streamWordsStartingWithP().toList());
+		Assertions.assertArrayEquals(new int[] { 2, 4, 6 }, dataService.getEvenNumbersArray());
+
+		// Turned parallel after the filter was set up on a sequential stream.
+		List<Integer> even = dataService.streamEvenNumbers(200_000).parallel().toList();
+		Assertions.assertEquals(100_000, even.size());
+		Assertions.assertTrue(even.stream().allMatch(number -> number % 2 == 0));
+	}
+
+	/**
+	 * Test case to verify that arrays are transformed with array-native
+	 * algorithms and keep their type.
+	 */
+	@Test
+	void testArrayResults() {
+		log.debug("\n--- Test: Calling array methods ---");
+		Assertions.assertArrayEquals(new int[] { 4, 3, 2, 1 }, dataService.getScoresArrayReversed());
+		Assertions.assertArrayEquals(new long[] { 5L, 3L, 1L }, dataService.getUniqueIdsArray());
+		Assertions.assertArrayEquals(new int[] { 9, 6, 5 }, dataService.getTopScoresArray());
+		String[] names = dataService.getUniqueNamesArrayReversed();
+		Assertions.assertArrayEquals(new String[] { "Cid", "Ben", "Ana" }, names);
+		Assertions.assertEquals(String[].class, names.getClass());
+		Assertions.assertEquals("Ben", dataService.getCustomersArrayReversed()[0].name());
+		Assertions.assertArrayEquals(new int[] { 1, 2, 3 }, dataService.getLowestScoresArray());
+		Assertions.assertArrayEquals(new long[] { 5L, 4L, 3L }, dataService.getHighestIdsArray());
+		Assertions.assertArrayEquals(new String[] { "Ana", "Ben", "Cid" }, dataService.getFirstNamesArray());
+	}
+
+	/**
+	 * Test case to verify that arrays are transformed in place unless a copy is
+	 * asked for, and trimmed when elements are dropped.
+	 */
+	@Test
+	void testArrayResultsAreCopiedWhenAskedTo() {
+		log.debug("\n--- Test: Calling array methods with arguments ---");
+		Assertions.assertArrayEquals(new long[] { 1L, 3L, 2L }, dataService.getLatestIdsArray(1L, 2L, 1L, 3L, 2L));
+		long[] distinct = { 4L, 5L };
+		Assertions.assertSame(distinct, dataService.getLatestIdsArray(distinct), "Nothing dropped, nothing copied.");
+
+		int[] scores = { 1, 2, 3 };
+		Assertions.assertArrayEquals(new int[] { 3, 2, 1 }, dataService.getScoresArrayReversedCopy(scores));
+		Assertions.assertArrayEquals(new int[] { 1, 2, 3 }, scores);
+
+		TambakSettings.setCopyOnWrite(true);
+		try {
+			long[] ids = { 1L, 2L, 1L };
+			Assertions.assertArrayEquals(new long[] { 2L, 1L }, dataService.getLatestIdsArray(ids));
+			Assertions.assertArrayEquals(new long[] { 1L, 2L, 1L }, ids);
+		} finally {
+			TambakSettings.setCopyOnWrite(false);
+		}
+
+		String[] names = { "Kim", "Eve", "Lou", "Bob", "Hal", "Ann", "Dan", "Fay", "Gus", "Ida", "Joe", "Cid" };
+		Customer[] customers = new Customer[names.length];
+		for (int i = 0; i < names.length; i++) {
+			customers[i] = new Customer(i, names[i]);
+		}
+		Customer[] first = dataService.getFirstCustomersByName(customers);
+		Assertions.assertEquals(2, first.length);
+		Assertions.assertEquals("Ann", first[0].name());
+		Assertions.assertEquals("Bob", first[1].name());
+	}
+
+	/**
+	 * Test case to verify that @CompactList packs boxed numbers into primitive
+	 * arrays, after the stacked transformations ran on the unboxed values.
+	 */
+	@Test
+	void testCompactList() {
+		log.debug("\n--- Test: Calling getCompactIds() ---");
+		List<Long> ids = dataService.getCompactIds();
+		Assertions.assertEquals(Arrays.asList(10L, 20L, 30L, 40L), ids);
+		Assertions.assertTrue(ids instanceof CompactLongList);
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> ids.add(50L));
+
+		List<Integer> scores = dataService.getCompactUniqueScoresReversed();
+		Assertions.assertEquals(Arrays.asList(4, 2, 1, 3), scores);
+		Assertions.assertTrue(scores instanceof CompactIntList);
+
+		Assertions.assertSame(DataService.NULLABLE_SCORES, dataService.getCompactScoresWithNull());
+
+		Assertions.assertEquals(Arrays.asList(6, 5, 4), dataService.getRankedCompactScores());
+		List<Long> latest = dataService.getLatestCompactIds();
+		Assertions.assertEquals(Arrays.asList(1L, 3L, 2L), latest);
+		Assertions.assertTrue(latest instanceof CompactLongList);
+		Assertions.assertEquals(Arrays.asList(1, 2, 3), dataService.getLowestCompactScores());
+	}
+
+	/**
+	 * Test case to verify that @CachedList keeps a compact result as it is.
+	 */
+	@Test
+	void testCachedCompactList() {
+		log.debug("\n--- Test: Calling getCachedCompactIds() ---");
+		List<Integer> ids = dataService.getCachedCompactIds(100);
+		Assertions.assertTrue(ids instanceof CompactIntList);
+		Assertions.assertSame(ids, dataService.getCachedCompactIds(100));
+		Assertions.assertEquals(List.of(), dataService.getCachedCompactIds(0));
+		Assertions.assertEquals(List.of(0), dataService.getCachedCompactIds(1));
+	}
+
+	/**
+	 * Test case to verify that @CachedList runs the method once per argument and
+	 * hands out the transformed result as an unmodifiable snapshot.
+	 */
+	@Test
+	void testGetCachedItemsIsCachedPerArgument() throws Exception {
+		log.debug("\n--- Test: Calling getCachedItems() ---");
+		int loads = DataService.CACHED_ITEMS_LOADS.get();
+		List<String> first = dataService.getCachedItems("x");
+		List<String> second = dataService.getCachedItems("x");
+		dataService.getCachedItems("y");
+
+		Assertions.assertEquals(Arrays.asList("xA", "xB"), first, "The cached result is de-duplicated.");
+		Assertions.assertSame(first, second);
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> first.add("xC"));
+		Assertions.assertEquals(loads + 2, DataService.CACHED_ITEMS_LOADS.get());
+		Assertions.assertTrue(cachedListAspect.getStats()
+				.get("DataService.getCachedItems(String)").hitCount() >= 1);
+	}
+
+	/**
+	 * Test case to verify that a stale @CachedList entry is reloaded by the call
+	 * that finds it, on that call's thread, and that fresh entries are not.
+	 */
+	@Test
+	void testGetRefreshedItemsIsReloadedOnTheCallingThread() throws Exception {
+		log.debug("\n--- Test: Calling getRefreshedItems() ---");
+		List<String> first = dataService.getRefreshedItems("r");
+		Assertions.assertSame(first, dataService.getRefreshedItems("r"));
+
+		Thread.sleep(150);
+		List<String> refreshed = dataService.getRefreshedItems("r");
+
+		Assertions.assertNotEquals(first, refreshed);
+		Assertions.assertSame(Thread.currentThread(), DataService.refreshedItemsThread);
+		Assertions.assertSame(refreshed, dataService.getRefreshedItems("r"));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> refreshed.add("r0"));
+	}
+
+	/**
+	 * Test case to verify that @CachedList leaves a method declared to return an
+	 * ArrayList alone, like the other Tambak annotations do.
+	 */
+	@Test
+	void testCachedListSkipsArrayListResults() {
+		log.debug("\n--- Test: Calling getCachedItemsArrayList() ---");
+		ArrayList<String> first = dataService.getCachedItemsArrayList();
+
+		Assertions.assertEquals(Arrays.asList("A", "B", "A"), first);
+		Assertions.assertNotSame(first, dataService.getCachedItemsArrayList());
+	}
+
+	/**
+	 * Test case to verify that @DistinctAcrossCalls leaves a method declared to
+	 * return an ArrayList alone, like the other Tambak annotations do.
+	 */
+	@Test
+	void testDistinctAcrossCallsSkipsArrayListResults() {
+		log.debug("\n--- Test: Calling pollNumbersArrayList() ---");
+		Assertions.assertEquals(Arrays.asList(1, 2, 3), dataService.pollNumbersArrayList());
+		Assertions.assertEquals(Arrays.asList(1, 2, 3), dataService.pollNumbersArrayList());
+	}
+
+	/**
+	 * Test case to verify that concurrent misses for the same argument run the
+	 * method only once.
+	 */
+	@Test
+	void testGetCachedItemsLoadsOnceForConcurrentMisses() throws Exception {
+		log.debug("\n--- Test: Calling getCachedItems() concurrently ---");
+		int loads = DataService.CACHED_ITEMS_LOADS.get();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<String>>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> dataService.getCachedItems("concurrent")));
+			}
+			for (Future<List<String>> result : results) {
+				Assertions.assertEquals(Arrays.asList("concurrentA", "concurrentB"), result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		Assertions.assertEquals(loads + 1, DataService.CACHED_ITEMS_LOADS.get());
+	}
+
+	/**
+	 * Test case to verify that advised methods publish their metrics and are
+	 * listed by the actuator endpoint.
+	 */
+	@Test
+	void testMetricsArePublishedPerAdvisedMethod() {
+		log.debug("\n--- Test: Metrics of getItemsWithDuplicates() and getNullableStringsModifiable() ---");
+		dataService.getItemsWithDuplicates();
+		dataService.getNullableStringsModifiable();
+
+		String unique = "DataService.getItemsWithDuplicates()";
+		Assertions.assertTrue(meterRegistry.get(TambakMetrics.OVERHEAD).tag("method", unique).timer().count() > 0);
+		Assertions.assertEquals(7.0,
+				meterRegistry.get(TambakMetrics.SIZE).tags("method", unique, "stage", "input").summary().max());
+		Assertions.assertEquals(4.0,
+				meterRegistry.get(TambakMetrics.SIZE).tags("method", unique, "stage", "output").summary().max());
+		Assertions.assertEquals(4.0 / 7.0,
+				meterRegistry.get(TambakMetrics.UNIQUE_RATIO).tag("method", unique).summary().max(), 1e-9);
+
+		String nullable = "DataService.getNullableStringsModifiable()";
+		Assertions.assertTrue(meterRegistry.get(TambakMetrics.NULL_SUBSTITUTIONS).tag("method", nullable)
+				.counter().count() > 0);
+
+		TambakEndpoint.AdvisedMethodDescriptor descriptor = tambakEndpoint.advisedMethods().methods().stream()
+				.filter(method -> method.signature().equals(unique))
+				.findFirst().orElseThrow();
+		Assertions.assertEquals(List.of("@UniqueList"), descriptor.annotations());
+	}
+
+	/**
+	 * A feed only returns the customers it did not return before, and each feed
+	 * has its own window.
+	 */
+	@Test
+	void testDistinctAcrossCalls() {
+		Assertions.assertEquals(List.of(1L, 2L, 3L), ids(dataService.pollCustomers("a", 1)));
+		Assertions.assertEquals(List.of(4L, 5L), ids(dataService.pollCustomers("a", 3)));
+		Assertions.assertEquals(List.of(), ids(dataService.pollCustomers("a", 3)));
+		Assertions.assertEquals(List.of(3L, 4L, 5L), ids(dataService.pollCustomers("b", 3)));
+	}
+
+	private static List<Long> ids(List<Customer> customers) {
+		return customers.stream().map(Customer::id).toList();
+	}
+
+	/**
+	 * Switching an annotation off at run time makes its method return the plain
+	 * result from the next call on, and switching it back on restores it.
+	 */
+	@Test
+	void testToggleAnnotationAtRuntime() {
+		String pattern = DataService.class.getName() + ".getNumbers";
+		try {
+			tambakEndpoint.toggle("reverse-list", pattern, false);
+			Assertions.assertEquals(List.of(1, 2, 3, 4, 5), dataService.getNumbers());
+			Assertions.assertEquals(Map.of("@ReverseList", List.of(pattern)),
+					tambakEndpoint.advisedMethods().disabled());
+			// Other methods of the class keep their annotation.
+			Assertions.assertEquals(List.of("Date", "Cherry", "Banana", "Apple"), dataService.getItemsInOrder());
+		} finally {
+			tambakEndpoint.toggle("reverse-list", pattern, true);
+		}
+		Assertions.assertEquals(List.of(5, 4, 3, 2, 1), dataService.getNumbers());
+	}
 }
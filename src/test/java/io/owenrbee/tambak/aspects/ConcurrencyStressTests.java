@@ -0,0 +1,188 @@
+package io.owenrbee.tambak.aspects;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.owenrbee.tambak.service.Customer;
+import io.owenrbee.tambak.service.DataService;
+import io.owenrbee.tambak.support.TambakSettings;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hammers the advised {@link DataService} from many threads at once, with
+ * copy-on-write on, and checks that every caller gets a correct result and
+ * that shared lists are never modified.
+ * <p>
+ * Callers run on virtual threads when the JVM has them (Java 21 and later),
+ * otherwise on a large pool of platform threads. Throughput is logged per
+ * aspect.
+ */
+@SpringBootTest(classes = AspectsApplicationTests.TestConfig.class)
+@Slf4j
+class ConcurrencyStressTests {
+
+	private static final int CALLERS = 10_000;
+
+	private static final List<Integer> SHARED_SCORES = List.copyOf(DataService.SHARED_SCORES);
+
+	@Autowired
+	private DataService dataService;
+
+	@BeforeAll
+	static void enableCopyOnWrite() {
+		TambakSettings.setCopyOnWrite(true);
+	}
+
+	@AfterAll
+	static void disableCopyOnWrite() {
+		TambakSettings.setCopyOnWrite(false);
+	}
+
+	/**
+	 * Virtual threads are looked up reflectively, so the suite still compiles
+	 * for Java 17.
+	 */
+	private static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(256);
+		}
+	}
+
+	/**
+	 * Runs a call from {@link #CALLERS} tasks released together, and fails if
+	 * any of them throws or returns {@code false}.
+	 */
+	private static void hammer(String name, StressCall call) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>(CALLERS);
+		long elapsed;
+		try (Closeable executor = new Closeable(newExecutor())) {
+			for (int i = 0; i < CALLERS; i++) {
+				int caller = i;
+				results.add(executor.service.submit(() -> {
+					start.await();
+					return call.run(caller);
+				}));
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<Boolean> result : results) {
+				Assertions.assertTrue(result.get(60, TimeUnit.SECONDS), name + " returned a wrong result");
+			}
+			elapsed = System.nanoTime() - begin;
+		}
+		log.info("{}: {} calls in {} ms, {} calls/s", name, CALLERS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+				CALLERS * 1_000_000_000L / Math.max(1, elapsed));
+	}
+
+	@Test
+	void testMustNotNullList() throws Exception {
+		hammer("@MustNotNullList", caller -> {
+			List<String> result = dataService.getNullableStringsModifiable();
+			// Every caller gets an empty list of its own.
+			result.add("caller-" + caller);
+			return result.size() == 1;
+		});
+	}
+
+	@Test
+	void testUniqueList() throws Exception {
+		hammer("@UniqueList", caller -> dataService.getItemsWithDuplicates()
+				.equals(List.of("Red", "Blue", "Green", "Yellow")));
+	}
+
+	@Test
+	void testSortedList() throws Exception {
+		hammer("@SortedList", caller -> dataService.getTopCustomers()
+				.equals(List.of(new Customer(5, "Eve"), new Customer(4, "Dan"))));
+	}
+
+	@Test
+	void testLimitList() throws Exception {
+		hammer("@LimitList", caller -> dataService.getNumbersPage().equals(List.of(3, 4, 5)));
+	}
+
+	/**
+	 * Concurrent callers of a method returning a shared list each get their own
+	 * reversed copy; the shared list is never reversed, not even transiently.
+	 */
+	@Test
+	void testReverseListOnSharedList() throws Exception {
+		List<Integer> reversed = new ArrayList<>(SHARED_SCORES);
+		java.util.Collections.reverse(reversed);
+		hammer("@ReverseList (shared)", caller -> dataService.getSharedScoresReversed().equals(reversed)
+				&& DataService.SHARED_SCORES.equals(SHARED_SCORES));
+	}
+
+	@Test
+	void testUniqueSortedListOnSharedList() throws Exception {
+		hammer("@UniqueList @SortedList (shared)", caller -> dataService.getSharedScoresRanked()
+				.equals(List.of(9, 6, 5, 4, 3, 2, 1)) && DataService.SHARED_SCORES.equals(SHARED_SCORES));
+	}
+
+	/**
+	 * The method body runs once per key, however many callers miss at the same
+	 * time, and all of them get the same result.
+	 */
+	@Test
+	void testCachedList() throws Exception {
+		int loads = DataService.CACHED_ITEMS_LOADS.get();
+		hammer("@CachedList", caller -> dataService.getCachedItems("stress-").equals(List.of("stress-A", "stress-B")));
+		Assertions.assertEquals(loads + 1, DataService.CACHED_ITEMS_LOADS.get());
+	}
+
+	/**
+	 * Overlapping pages polled concurrently from one feed: every customer is
+	 * passed on about once. Bloom filter false positives may drop a few new
+	 * customers, and a customer added by two callers at the same instant may
+	 * rarely pass twice, so the total is checked within a margin.
+	 */
+	@Test
+	void testDistinctAcrossCalls() throws Exception {
+		Map<Long, AtomicInteger> passed = new ConcurrentHashMap<>();
+		hammer("@DistinctAcrossCalls", caller -> {
+			for (Customer customer : dataService.pollCustomers("stress", caller % 1000)) {
+				passed.computeIfAbsent(customer.id(), id -> new AtomicInteger()).incrementAndGet();
+			}
+			return true;
+		});
+		int total = passed.values().stream().mapToInt(AtomicInteger::get).sum();
+		Assertions.assertTrue(total >= 950 && total <= 1050, "Passed " + total + " of 1002 customers");
+	}
+
+	@FunctionalInterface
+	private interface StressCall {
+
+		boolean run(int caller) throws Exception;
+	}
+
+	/**
+	 * Shuts the executor down once all tasks are done;
+	 * {@code ExecutorService} is only {@code AutoCloseable} from Java 19.
+	 */
+	private record Closeable(ExecutorService service) implements AutoCloseable {
+
+		@Override
+		public void close() throws InterruptedException {
+			service.shutdown();
+			service.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package io.owenrbee.tambak.config;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.weaver.loadtime.Agent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.owenrbee.tambak.annotation.CachedList;
+import io.owenrbee.tambak.annotation.ReverseList;
+
+/**
+ * Smoke tests for {@link WeavingMode#LOAD_TIME}: a JVM started with the AspectJ
+ * weaver agent weaves the Tambak aspects only when told to read
+ * {@value TambakAspectJRegistrar#AOP_XML}, and then applies them in their
+ * declared order.
+ */
+class LoadTimeWeavingTests {
+
+	@Test
+	void testWeavesWhenConfigured() throws Exception {
+		String output = run("-D" + TambakAspectJRegistrar.CONFIGURATION_PROPERTY + "=" + TambakAspectJRegistrar.AOP_XML);
+
+		// Self-invoked, non-public methods are advised, and the cache wraps the
+		// reversal: the second call hands out the cached, reversed list.
+		Assertions.assertTrue(output.endsWith("[3, 2, 1] [3, 2, 1] true"), output);
+	}
+
+	@Test
+	void testDoesNotWeaveByDefault() throws Exception {
+		String output = run();
+
+		Assertions.assertTrue(output.endsWith("[1, 2, 3] [1, 2, 3] false"), output);
+	}
+
+	private static String run(String... options) throws Exception {
+		String agent = Path.of(Agent.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-javaagent:" + agent);
+		command.addAll(List.of(options));
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(WovenMain.class.getName());
+
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+		Assertions.assertTrue(process.waitFor(60, TimeUnit.SECONDS), "Timed out: " + output);
+		Assertions.assertEquals(0, process.exitValue(), output);
+		return output.substring(output.lastIndexOf('\n') + 1);
+	}
+
+	/**
+	 * Entry point of the woven JVM. No Spring context: the aspects run as
+	 * AspectJ singletons.
+	 */
+	static class WovenMain {
+
+		public static void main(String[] args) {
+			WovenService service = new WovenService();
+			System.out.println(service.describe());
+		}
+	}
+
+	static class WovenService {
+
+		String describe() {
+			List<Integer> first = cachedNumbers();
+			return numbers() + " " + first + " " + (first == cachedNumbers());
+		}
+
+		@ReverseList
+		List<Integer> numbers() {
+			return new ArrayList<>(List.of(1, 2, 3));
+		}
+
+		@CachedList
+		@ReverseList
+		List<Integer> cachedNumbers() {
+			return new ArrayList<>(List.of(1, 2, 3));
+		}
+	}
+}
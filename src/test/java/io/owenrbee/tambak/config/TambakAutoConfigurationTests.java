@@ -0,0 +1,163 @@
+package io.owenrbee.tambak.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import io.owenrbee.tambak.annotation.MustNotNullList;
+import io.owenrbee.tambak.annotation.ReverseList;
+import io.owenrbee.tambak.annotation.UniqueList;
+import io.owenrbee.tambak.aspect.CachedListAspect;
+import io.owenrbee.tambak.aspect.MustNotNullListAspect;
+import io.owenrbee.tambak.aspect.ReverseListAspect;
+import io.owenrbee.tambak.aspect.TambakPointcuts;
+import io.owenrbee.tambak.aspect.UniqueListAspect;
+import io.owenrbee.tambak.metrics.TambakFlightRecorder;
+import io.owenrbee.tambak.support.TambakSettings;
+
+/**
+ * Tests for the conditional registration of the aspects by
+ * {@link TambakAutoConfiguration}, and for the native image hints.
+ */
+class TambakAutoConfigurationTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(TambakAutoConfiguration.class));
+
+	/**
+	 * Contexts with disabled aspects switch their annotations off globally.
+	 */
+	@AfterEach
+	void resetUnregistered() {
+		TambakSettings.setUnregistered(Set.of());
+	}
+
+	@Test
+	void registersAllAspects() {
+		runner.run(context -> {
+			Assertions.assertEquals(1, context.getBeansOfType(UniqueListAspect.class).size());
+			Assertions.assertEquals(1, context.getBeansOfType(ReverseListAspect.class).size());
+			Assertions.assertEquals(1, context.getBeansOfType(CachedListAspect.class).size());
+		});
+	}
+
+	@Test
+	void skipsDisabledAspects() {
+		runner.withPropertyValues("tambak.reverse-list.enabled=false").run(context -> {
+			Assertions.assertTrue(context.getBeansOfType(ReverseListAspect.class).isEmpty());
+			Assertions.assertEquals(1, context.getBeansOfType(UniqueListAspect.class).size());
+		});
+		runner.withPropertyValues("tambak.enabled=false")
+				.run(context -> Assertions.assertTrue(context.getBeansOfType(UniqueListAspect.class).isEmpty()));
+	}
+
+	@Test
+	void registersFlightRecorderUnlessDisabled() {
+		runner.run(context -> Assertions.assertEquals(1, context.getBeansOfType(TambakFlightRecorder.class).size()));
+		runner.withPropertyValues("tambak.jfr.enabled=false").run(
+				context -> Assertions.assertTrue(context.getBeansOfType(TambakFlightRecorder.class).isEmpty()));
+	}
+
+	@Test
+	void appliesCopyOnWriteProperty() {
+		try {
+			runner.withPropertyValues("tambak.copy-on-write=true")
+					.run(context -> Assertions.assertTrue(TambakSettings.isCopyOnWrite()));
+		} finally {
+			TambakSettings.setCopyOnWrite(false);
+		}
+	}
+
+	@Test
+	void appliesDisabledProperties() {
+		try {
+			runner.withPropertyValues("tambak.disabled.unique-list=com.example.search, com.example.feed.Feed.poll")
+					.run(context -> Assertions.assertEquals(
+							Map.of(UniqueList.class, List.of("com.example.search", "com.example.feed.Feed.poll")),
+							TambakSettings.getDisabled()));
+		} finally {
+			TambakSettings.setDisabled(Map.of());
+		}
+	}
+
+	/**
+	 * A disabled aspect must not be elected to apply the fused plan: the other
+	 * stacked annotations still apply, as if the disabled one were absent.
+	 */
+	@Test
+	void appliesStackedAnnotationsOfDisabledAspects() {
+		runner.withUserConfiguration(ServiceConfig.class)
+				.withPropertyValues("tambak.must-not-null-list.enabled=false")
+				.run(context -> {
+					Assertions.assertTrue(context.getBeansOfType(MustNotNullListAspect.class).isEmpty());
+					Assertions.assertEquals(List.of(3, 2, 1), context.getBean(NumberService.class).getNumbers());
+					Assertions.assertNull(context.getBean(NumberService.class).getNoNumbers());
+				});
+	}
+
+	/**
+	 * With the annotation, the auto-configuration backs off rather than
+	 * registering every aspect a second time.
+	 */
+	@Test
+	void backsOffForEnableTambakAnnotations() {
+		runner.withUserConfiguration(AnnotatedConfig.class).run(context -> {
+			Assertions.assertEquals(1, context.getBeansOfType(UniqueListAspect.class).size());
+			Assertions.assertEquals(1, context.getBeansOfType(TambakConfigurationSelector.Marker.class).size());
+		});
+	}
+
+	@Test
+	void registersRuntimeHints() {
+		RuntimeHints hints = new RuntimeHints();
+		new TambakRuntimeHints().registerHints(hints, getClass().getClassLoader());
+		Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(UniqueListAspect.class)
+				.withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+		Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(TambakPointcuts.class)
+				.withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+		Assertions.assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(UniqueList.class).test(hints));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableTambakAnnotations
+	static class AnnotatedConfig {
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableAspectJAutoProxy
+	static class ServiceConfig {
+
+		@Bean
+		NumberService numberService() {
+			return new NumberService();
+		}
+	}
+
+	static class NumberService {
+
+		@MustNotNullList
+		@ReverseList
+		public List<Integer> getNumbers() {
+			return new ArrayList<>(List.of(1, 2, 3));
+		}
+
+		@MustNotNullList
+		@ReverseList
+		public List<Integer> getNoNumbers() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package io.owenrbee.tambak.metrics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.owenrbee.tambak.service.DataService;
+import io.owenrbee.tambak.support.AdvisedMethods;
+import io.owenrbee.tambak.support.TransformPlan;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for the Flight Recorder events of {@link TambakFlightRecorder}:
+ * only invocations above a threshold are committed, and only while a recording
+ * is running.
+ */
+class TambakFlightRecorderTests {
+
+	@Test
+	void testCommitsOnlySlowOrLargeInvocations() throws Exception {
+		TambakFlightRecorder recorder = new TambakFlightRecorder(Duration.ofMillis(1), 1_000);
+		TransformPlan plan = AdvisedMethods.plan(DataService.class.getMethod("getNonNullNonEmptyList"),
+				DataService.class);
+		Assertions.assertFalse(recorder.isActive());
+
+		Path file = Files.createTempFile("tambak", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(TambakInvocationEvent.NAME);
+			recording.start();
+			Assertions.assertTrue(recorder.isActive());
+
+			recorder.onInvocation(plan, 10_000, 5_000, 10, 10, false); // fast and small
+			recorder.onInvocation(plan, 10_000, 2_000_000, 10, 8, false); // slow
+			recorder.onInvocation(plan, 10_000, 5_000, 5_000, 3, true); // large
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			Assertions.assertEquals(2, events.size());
+			RecordedEvent slow = events.get(0);
+			Assertions.assertEquals(AdvisedMethods.signature(plan.method()), slow.getString("method"));
+			Assertions.assertEquals("@MustNotNullList", slow.getString("annotations"));
+			Assertions.assertEquals(Duration.ofMillis(2), slow.getDuration("transformDuration"));
+			Assertions.assertEquals(5_000, events.get(1).getInt("inputSize"));
+			Assertions.assertTrue(events.get(1).getBoolean("nullSubstituted"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+		Assertions.assertFalse(recorder.isActive());
+	}
+}
@@ -0,0 +1,11 @@
+package io.owenrbee.tambak.service;
+
+/**
+ * Sample entity, identified by its {@code id}, for key-based de-duplication
+ * tests.
+ *
+ * @param id   the customer ID.
+ * @param name the customer name, which may change between versions.
+ */
+public record Customer(long id, String name) {
+}
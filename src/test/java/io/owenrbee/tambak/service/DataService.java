@@ -2,14 +2,35 @@ package io.owenrbee.tambak.service;
 
 import org.springframework.stereotype.Service;
 
+import io.owenrbee.tambak.annotation.CachedList;
+import io.owenrbee.tambak.annotation.CompactList;
+import io.owenrbee.tambak.annotation.DistinctAcrossCalls;
+import io.owenrbee.tambak.annotation.DistinctScope;
+import io.owenrbee.tambak.annotation.FilterList;
+import io.owenrbee.tambak.annotation.KeepPolicy;
+import io.owenrbee.tambak.annotation.LimitList;
 import io.owenrbee.tambak.annotation.MustNotNullList;
 import io.owenrbee.tambak.annotation.ReverseList;
+import io.owenrbee.tambak.annotation.ReverseMode;
+import io.owenrbee.tambak.annotation.SortedList;
 import io.owenrbee.tambak.annotation.UniqueList;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Sample service to demonstrate annotations for
@@ -20,6 +41,33 @@ import java.util.List;
 @Slf4j
 public class DataService {
 
+    /** Number of times the body of getCachedItems(String) actually ran. */
+    public static final AtomicInteger CACHED_ITEMS_LOADS = new AtomicInteger();
+
+    /** Number of times the body of getRefreshedItems(String) actually ran. */
+    public static final AtomicInteger REFRESHED_ITEMS_LOADS = new AtomicInteger();
+
+    /** The thread getRefreshedItems(String) last ran on. */
+    public static volatile Thread refreshedItemsThread;
+
+    /** Number of elements pulled from streamNumbersForever(). */
+    public static final AtomicInteger STREAMED_NUMBERS = new AtomicInteger();
+
+    /** A list shared between calls, as a cache would hand it out. */
+    public static final List<Integer> SHARED_NUMBERS = new ArrayList<>(Arrays.asList(1, 2, 3, 4));
+
+    /** A modifiable list shared between calls, with duplicates. */
+    public static final List<Integer> SHARED_SCORES = new ArrayList<>(Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6, 5, 3));
+
+    /** An array shared between calls. */
+    public static final int[] SHARED_CODES = { 1, 2, 3, 4, 5, 6 };
+
+    /** An array shared between calls, with duplicates. */
+    public static final long[] SHARED_IDS = { 4L, 1L, 4L, 2L, 3L, 2L };
+
+    /** Scores with a gap that cannot be packed into an int[]. */
+    public static final List<Integer> NULLABLE_SCORES = Arrays.asList(7, null, 8);
+
     /**
      * Returns a list of strings. This method is annotated with @Reverse,
      * so its returned list will be reversed by the ReverseListAspect.
@@ -45,6 +93,42 @@ public class DataService {
         return Arrays.asList(1, 2, 3, 4, 5);
     }
 
+    /**
+     * Returns an immutable list. The default in-place reversal cannot modify it,
+     * so a reversed copy should be returned instead of failing.
+     * 
+     * @return An immutable list of strings.
+     */
+    @ReverseList
+    public List<String> getImmutableItems() {
+        log.debug("--- DataService: Inside getImmutableItems() method.");
+        return List.of("One", "Two", "Three");
+    }
+
+    /**
+     * Returns a shared list through a reversed view; the shared list itself must
+     * stay untouched.
+     * 
+     * @return A reversed view of the shared list.
+     */
+    @ReverseList(mode = ReverseMode.VIEW)
+    public List<Integer> getSharedNumbersAsView() {
+        log.debug("--- DataService: Inside getSharedNumbersAsView() method.");
+        return SHARED_NUMBERS;
+    }
+
+    /**
+     * Returns a shared list as a reversed copy; the shared list itself must stay
+     * untouched.
+     * 
+     * @return A reversed copy of the shared list.
+     */
+    @ReverseList(mode = ReverseMode.COPY)
+    public List<Integer> getSharedNumbersAsCopy() {
+        log.debug("--- DataService: Inside getSharedNumbersAsCopy() method.");
+        return SHARED_NUMBERS;
+    }
+
     /**
      * Returns a list of characters. This method does NOT have the @Reverse
      * annotation,
@@ -82,6 +166,34 @@ public class DataService {
         return Arrays.asList(10, 20, 10, 30, 20, 40, 10);
     }
 
+    /**
+     * Returns a mutable ArrayList of IDs with duplicates. @UniqueList should
+     * compact it in place, without boxing the IDs into a hash set.
+     * 
+     * @return A list of longs with duplicates.
+     */
+    @UniqueList(inPlace = true)
+    public List<Long> getIdsWithDuplicates() {
+        log.debug("--- DataService: Inside getIdsWithDuplicates() method.");
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            ids.add(i % 25);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a sorted list with duplicates. @UniqueList(assumeSorted = true)
+     * only compares neighbouring elements.
+     * 
+     * @return A sorted list of strings with duplicates.
+     */
+    @UniqueList(assumeSorted = true)
+    public List<String> getSortedItemsWithDuplicates() {
+        log.debug("--- DataService: Inside getSortedItemsWithDuplicates() method.");
+        return Arrays.asList("Apple", "Apple", "Banana", "Cherry", "Cherry");
+    }
+
     // --- Methods directly annotated with @MustNotNullList ---
 
     /**
@@ -129,4 +241,690 @@ public class DataService {
         log.debug("--- DataService: Inside getNonNullNonEmptyList() method (returning non-empty list).");
         return Arrays.asList(true, false);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns null; @MustNotNullList should substitute a modifiable empty set.
+     *
+     * @return A null set.
+     */
+    @MustNotNullList
+    public Set<String> getNullableTags() {
+        return null;
+    }
+
+    /**
+     * Returns null; @MustNotNullList should substitute an unmodifiable empty map.
+     *
+     * @return A null map.
+     */
+    @MustNotNullList(modifiable = false)
+    public Map<String, Integer> getNullableSettings() {
+        return null;
+    }
+
+    /**
+     * Returns null; @MustNotNullList should substitute an empty optional.
+     *
+     * @return A null optional.
+     */
+    @MustNotNullList
+    public Optional<String> findNullableName() {
+        return null;
+    }
+
+    /**
+     * Returns null; @MustNotNullList should substitute a shared empty array.
+     *
+     * @return A null array.
+     */
+    @MustNotNullList
+    public String[] getNullableCodes() {
+        return null;
+    }
+
+    /**
+     * Returns null; @MustNotNullList should substitute an empty array of the
+     * declared component type.
+     *
+     * @return A null array.
+     */
+    @MustNotNullList
+    public Customer[] getNullableCustomersArray() {
+        return null;
+    }
+
+    // --- Methods with several Tambak annotations stacked ---
+
+    /**
+     * Returns a list with duplicates. All three annotations are applied as one
+     * fused plan: null guard, then uniqueness, then reversal.
+     * 
+     * @return A list of strings with duplicates.
+     */
+    @MustNotNullList
+    @UniqueList
+    @ReverseList
+    public List<String> getStackedItems() {
+        log.debug("--- DataService: Inside getStackedItems() method.");
+        return Arrays.asList("Red", "Blue", "Red", "Green", "Blue");
+    }
+
+    /**
+     * Returns null. The fused plan should substitute a modifiable empty list.
+     * 
+     * @return A null list.
+     */
+    @ReverseList
+    @UniqueList
+    @MustNotNullList
+    public List<String> getStackedNullItems() {
+        log.debug("--- DataService: Inside getStackedNullItems() method (returning null).");
+        return null;
+    }
+
+    // --- Methods returning lazy sequences ---
+
+    /**
+     * Returns an infinite stream cycling through 0, 1, 2. @UniqueList must filter
+     * lazily, otherwise the caller could never take the first elements.
+     * 
+     * @return An infinite stream of integers with duplicates.
+     */
+    @UniqueList
+    public Stream<Integer> streamNumbersWithDuplicates() {
+        log.debug("--- DataService: Inside streamNumbersWithDuplicates() method.");
+        return Stream.iterate(0, i -> i + 1).map(i -> i % 3);
+    }
+
+    /**
+     * Returns a null stream. @MustNotNullList should return an empty stream.
+     * 
+     * @return A null stream.
+     */
+    @MustNotNullList
+    public Stream<String> streamNullItems() {
+        log.debug("--- DataService: Inside streamNullItems() method (returning null).");
+        return null;
+    }
+
+    /**
+     * Returns an iterator. @ReverseList should reverse it.
+     * 
+     * @return An iterator over strings.
+     */
+    @ReverseList
+    public Iterator<String> iterateItems() {
+        log.debug("--- DataService: Inside iterateItems() method.");
+        return Arrays.asList("X", "Y", "Z").iterator();
+    }
+
+    /**
+     * Returns an iterable that is not a collection. Stacked @UniqueList and
+     * @ReverseList apply each time it is iterated.
+     * 
+     * @return An iterable over strings with duplicates.
+     */
+    @UniqueList
+    @ReverseList
+    public Iterable<String> getIterableItems() {
+        log.debug("--- DataService: Inside getIterableItems() method.");
+        List<String> items = Arrays.asList("A", "B", "A", "C");
+        return items::iterator;
+    }
+
+    // --- Methods returning asynchronous results ---
+
+    /**
+     * Hands back the given future. @UniqueList and @ReverseList must be composed
+     * onto it without waiting for it to complete.
+     * 
+     * @param source The future to return.
+     * @return The given future, as returned by an asynchronous repository.
+     */
+    @UniqueList
+    @ReverseList
+    public CompletableFuture<List<String>> getItemsWhenDone(CompletableFuture<List<String>> source) {
+        log.debug("--- DataService: Inside getItemsWhenDone() method.");
+        return source;
+    }
+
+    /**
+     * Returns a future completing with null. @MustNotNullList should turn the
+     * value into an empty list.
+     * 
+     * @return A future of a null list.
+     */
+    @MustNotNullList
+    public CompletableFuture<List<String>> getNullItemsAsync() {
+        log.debug("--- DataService: Inside getNullItemsAsync() method.");
+        return CompletableFuture.supplyAsync(() -> null);
+    }
+
+    /**
+     * Returns a Flux with duplicates. @UniqueList should apply distinct().
+     * 
+     * @return A flux of integers with duplicates.
+     */
+    @UniqueList
+    public Flux<Integer> fluxNumbersWithDuplicates() {
+        log.debug("--- DataService: Inside fluxNumbersWithDuplicates() method.");
+        return Flux.just(10, 20, 10, 30, 20);
+    }
+
+    /**
+     * Returns an empty Mono. @MustNotNullList should emit an empty list instead.
+     * 
+     * @return An empty mono.
+     */
+    @MustNotNullList
+    public Mono<List<String>> monoEmptyItems() {
+        log.debug("--- DataService: Inside monoEmptyItems() method.");
+        return Mono.empty();
+    }
+
+    /**
+     * Returns customers, some of them listed twice. @UniqueList(by = "id")
+     * should keep the first entry of each ID.
+     * 
+     * @return A list of customers with repeated IDs.
+     */
+    @UniqueList(by = "id")
+    public List<Customer> getCustomers() {
+        log.debug("--- DataService: Inside getCustomers() method.");
+        return customerVersions();
+    }
+
+    /**
+     * Returns customers, some of them listed twice. With keep = LAST, the most
+     * recent entry of each ID should be kept.
+     * 
+     * @return A list of customers with repeated IDs.
+     */
+    @UniqueList(by = "id", keep = KeepPolicy.LAST)
+    public List<Customer> getLatestCustomers() {
+        log.debug("--- DataService: Inside getLatestCustomers() method.");
+        return customerVersions();
+    }
+
+    private static List<Customer> customerVersions() {
+        return new ArrayList<>(Arrays.asList(new Customer(1, "Ana"), new Customer(2, "Ben"),
+                new Customer(1, "Ana Cruz"), new Customer(3, "Cid"), new Customer(2, "Ben Reyes")));
+    }
+
+    /**
+     * Returns customers in no particular order. @SortedList should keep the two
+     * customers with the highest IDs, largest first.
+     * 
+     * @return A list of customers.
+     */
+    @SortedList(by = "id", descending = true, limit = 2)
+    public List<Customer> getTopCustomers() {
+        log.debug("--- DataService: Inside getTopCustomers() method.");
+        return Arrays.asList(new Customer(2, "Ben"), new Customer(5, "Eve"), new Customer(1, "Ana"),
+                new Customer(4, "Dan"), new Customer(3, "Cid"));
+    }
+
+    /**
+     * Returns words with duplicates. @UniqueList and @SortedList should give the
+     * distinct words in alphabetical order.
+     * 
+     * @return A list of words.
+     */
+    @UniqueList
+    @SortedList
+    public Stream<String> streamSortedUniqueWords() {
+        log.debug("--- DataService: Inside streamSortedUniqueWords() method.");
+        return Stream.of("pear", "apple", "fig", "apple", "pear");
+    }
+
+    /**
+     * Returns the numbers 0 to 9. @LimitList should return the page 3, 4, 5 as
+     * a view.
+     * 
+     * @return A list of numbers.
+     */
+    @LimitList(offset = 3, max = 3)
+    public List<Integer> getNumbersPage() {
+        log.debug("--- DataService: Inside getNumbersPage() method.");
+        return new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    /**
+     * Returns the numbers 0 to 9. @LimitList should reject the negative offset,
+     * naming this method.
+     * 
+     * @return A list of numbers.
+     */
+    @LimitList(offset = -1, max = 3)
+    public List<Integer> getNumbersBeforeFirstPage() {
+        log.debug("--- DataService: Inside getNumbersBeforeFirstPage() method.");
+        return new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    /**
+     * Returns an infinite stream of numbers, counting the numbers produced.
+     * @LimitList should stop pulling after the first page.
+     * 
+     * @return An infinite stream of numbers.
+     */
+    @LimitList(max = 5)
+    public Stream<Integer> streamNumbersForever() {
+        log.debug("--- DataService: Inside streamNumbersForever() method.");
+        return Stream.iterate(0, i -> i + 1).peek(i -> STREAMED_NUMBERS.incrementAndGet());
+    }
+
+    /**
+     * Returns customers in no particular order. @SortedList and @LimitList should
+     * select only the first two names of the second page.
+     * 
+     * @return A list of customers.
+     */
+    @SortedList(by = "name")
+    @LimitList(offset = 2, max = 2)
+    public List<Customer> getCustomersSecondPage() {
+        log.debug("--- DataService: Inside getCustomersSecondPage() method.");
+        return Arrays.asList(new Customer(2, "Ben"), new Customer(5, "Eve"), new Customer(1, "Ana"),
+                new Customer(4, "Dan"), new Customer(3, "Cid"));
+    }
+
+    /**
+     * Returns items with duplicates, slowly. @CachedList should run the method
+     * once per prefix and cache the de-duplicated result.
+     * 
+     * @param prefix the prefix of the items.
+     * @return A list of prefixed items.
+     */
+    @CachedList
+    @UniqueList
+    public List<String> getCachedItems(String prefix) throws InterruptedException {
+        log.debug("--- DataService: Inside getCachedItems() method.");
+        CACHED_ITEMS_LOADS.incrementAndGet();
+        Thread.sleep(50); // A slow query, so concurrent callers overlap.
+        return new ArrayList<>(Arrays.asList(prefix + "A", prefix + "B", prefix + "A"));
+    }
+
+    /**
+     * Returns the latest customers of a feed, overlapping with the previous page.
+     * @DistinctAcrossCalls should only pass customers this feed has not returned
+     * yet, per feed and by id.
+     *
+     * @param feed  the feed polled.
+     * @param since the first customer id of the page.
+     * @return Three customers starting at {@code since}.
+     */
+    @DistinctAcrossCalls(scope = DistinctScope.ARGUMENT, by = "id", expectedInsertions = 1000)
+    public List<Customer> pollCustomers(String feed, int since) {
+        log.debug("--- DataService: Inside pollCustomers() method.");
+        return new ArrayList<>(Arrays.asList(new Customer(since, "C" + since),
+                new Customer(since + 1, "C" + (since + 1)), new Customer(since + 2, "C" + (since + 2))));
+    }
+
+    /**
+     * Returns a shared, modifiable list. With copy-on-write, @ReverseList must
+     * reverse a copy rather than the shared list.
+     *
+     * @return The shared list of scores.
+     */
+    @ReverseList
+    public List<Integer> getSharedScoresReversed() {
+        return SHARED_SCORES;
+    }
+
+    /**
+     * Returns a shared, modifiable list. With copy-on-write, @UniqueList and
+     * @SortedList must leave the shared list untouched.
+     *
+     * @return The shared list of scores.
+     */
+    @UniqueList
+    @SortedList(descending = true)
+    public List<Integer> getSharedScoresRanked() {
+        return SHARED_SCORES;
+    }
+
+    /**
+     * Returns boxed ids. @CompactList should pack them into a long[].
+     *
+     * @return A list of ids.
+     */
+    @CompactList
+    public List<Long> getCompactIds() {
+        return new ArrayList<>(Arrays.asList(10L, 20L, 30L, 40L));
+    }
+
+    /**
+     * Returns scores with duplicates. @UniqueList and @ReverseList should run on
+     * the unboxed values, and @CompactList pack the result into an int[].
+     *
+     * @return A list of scores.
+     */
+    @UniqueList
+    @ReverseList
+    @CompactList
+    public List<Integer> getCompactUniqueScoresReversed() {
+        return Arrays.asList(3, 1, 3, 2, 1, 4);
+    }
+
+    /**
+     * Returns scores including a null. @CompactList cannot pack them and should
+     * return the list unchanged.
+     *
+     * @return A list of scores.
+     */
+    @CompactList
+    public List<Integer> getCompactScoresWithNull() {
+        return NULLABLE_SCORES;
+    }
+
+    /**
+     * Returns scores with duplicates. The stacked annotations should run on the
+     * unboxed values and return the second to fourth best distinct scores.
+     *
+     * @return A list of scores.
+     */
+    @UniqueList(keep = KeepPolicy.LAST)
+    @SortedList(descending = true)
+    @LimitList(offset = 1, max = 3)
+    @CompactList
+    public List<Integer> getRankedCompactScores() {
+        return new ArrayList<>(Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6, 5, 3));
+    }
+
+    /**
+     * Returns ids with duplicates. @UniqueList should keep the last occurrences
+     * and @CompactList pack them into a long[].
+     *
+     * @return A list of ids.
+     */
+    @UniqueList(keep = KeepPolicy.LAST)
+    @CompactList
+    public List<Long> getLatestCompactIds() {
+        return Arrays.asList(1L, 2L, 1L, 3L, 2L);
+    }
+
+    /**
+     * Returns scores in descending order. @SortedList should keep the three
+     * lowest on the compact path too.
+     *
+     * @return A list of scores.
+     */
+    @SortedList(limit = 3)
+    @CompactList
+    public List<Integer> getLowestCompactScores() {
+        return Arrays.asList(5, 4, 3, 2, 1);
+    }
+
+    /**
+     * Returns items numbered by load. @CachedList should run the method again,
+     * on the calling thread, once the entry is older than 100 milliseconds.
+     *
+     * @param prefix the prefix of the items.
+     * @return A list holding one item.
+     */
+    @CachedList(refreshAfterWrite = 100, timeUnit = TimeUnit.MILLISECONDS)
+    public List<String> getRefreshedItems(String prefix) {
+        log.debug("--- DataService: Inside getRefreshedItems() method.");
+        refreshedItemsThread = Thread.currentThread();
+        return new ArrayList<>(List.of(prefix + REFRESHED_ITEMS_LOADS.incrementAndGet()));
+    }
+
+    /**
+     * Returns ids slowly. @CachedList should keep the packed list as is rather
+     * than copying it into boxed elements again.
+     *
+     * @param count the number of ids.
+     * @return A list of ids.
+     */
+    @CachedList
+    @CompactList
+    public List<Integer> getCachedCompactIds(int count) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(i);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a fresh array of scores. @ReverseList should reverse it in place.
+     *
+     * @return An array of scores.
+     */
+    @ReverseList
+    public int[] getScoresArrayReversed() {
+        return new int[] { 1, 2, 3, 4 };
+    }
+
+    /**
+     * Returns ids with duplicates. @UniqueList should return a trimmed array.
+     *
+     * @return An array of ids.
+     */
+    @UniqueList
+    public long[] getUniqueIdsArray() {
+        return new long[] { 5L, 3L, 5L, 1L, 3L };
+    }
+
+    /**
+     * Returns scores with duplicates. The stacked annotations should return the
+     * three best distinct scores, without boxing.
+     *
+     * @return An array of scores.
+     */
+    @UniqueList
+    @SortedList(descending = true)
+    @LimitList(max = 3)
+    public int[] getTopScoresArray() {
+        return new int[] { 3, 1, 4, 1, 5, 9, 2, 6, 5, 3 };
+    }
+
+    /**
+     * Returns names with duplicates. @UniqueList and @ReverseList should work on
+     * object arrays too, keeping the component type.
+     *
+     * @return An array of names.
+     */
+    @UniqueList
+    @ReverseList
+    public String[] getUniqueNamesArrayReversed() {
+        return new String[] { "Ana", "Ben", "Ana", "Cid" };
+    }
+
+    /**
+     * Returns customers. @ReverseList should apply to arrays of application
+     * types, not only to primitive and java.lang arrays.
+     *
+     * @return An array of customers.
+     */
+    @ReverseList
+    public Customer[] getCustomersArrayReversed() {
+        return new Customer[] { new Customer(1, "Ana"), new Customer(2, "Ben") };
+    }
+
+    /**
+     * Returns the given ids. @UniqueList should keep the last occurrences, and
+     * return the array itself when nothing is dropped.
+     *
+     * @param ids the ids.
+     * @return An array of ids.
+     */
+    @UniqueList(keep = KeepPolicy.LAST, inPlace = true)
+    public long[] getLatestIdsArray(long... ids) {
+        return ids;
+    }
+
+    /**
+     * Returns the given scores. @ReverseList should reverse a copy and leave the
+     * argument alone.
+     *
+     * @param scores the scores.
+     * @return An array of scores.
+     */
+    @ReverseList(mode = ReverseMode.COPY)
+    public int[] getScoresArrayReversedCopy(int... scores) {
+        return scores;
+    }
+
+    /**
+     * Returns the given customers. @SortedList and @LimitList should select the
+     * first two by name into an array of the same type.
+     *
+     * @param customers the customers.
+     * @return An array of customers.
+     */
+    @SortedList(by = "name")
+    @LimitList(max = 2)
+    public Customer[] getFirstCustomersByName(Customer... customers) {
+        return customers;
+    }
+
+    /**
+     * Returns scores. @SortedList should keep the three lowest in a trimmed
+     * array.
+     *
+     * @return An array of scores.
+     */
+    @SortedList(limit = 3)
+    public int[] getLowestScoresArray() {
+        return new int[] { 5, 4, 3, 2, 1 };
+    }
+
+    /**
+     * Returns ids. @SortedList should keep the three highest in a trimmed array.
+     *
+     * @return An array of ids.
+     */
+    @SortedList(descending = true, limit = 3)
+    public long[] getHighestIdsArray() {
+        return new long[] { 1L, 2L, 3L, 4L, 5L };
+    }
+
+    /**
+     * Returns names. @SortedList should keep the first three, also when the
+     * limit is too close to the length for the bounded selection.
+     *
+     * @return An array of names.
+     */
+    @SortedList(limit = 3)
+    public String[] getFirstNamesArray() {
+        return new String[] { "Eve", "Dan", "Cid", "Ben", "Ana" };
+    }
+
+    /**
+     * Returns customers and a gap. @FilterList should drop the gap and the
+     * customers with an id of 2 or less.
+     *
+     * @return A list of customers.
+     */
+    @FilterList("#e != null && #e.id > 2L")
+    public List<Customer> getRecentCustomers() {
+        return new ArrayList<>(Arrays.asList(new Customer(1, "Ana"), null, new Customer(3, "Cid"),
+                new Customer(2, "Ben"), new Customer(4, "Dan")));
+    }
+
+    /**
+     * Returns names with duplicates. @FilterList and @UniqueList should keep the
+     * distinct names longer than two letters, in one pass. The expression uses
+     * the element as root object.
+     *
+     * @return A list of names.
+     */
+    @FilterList("length() > 2")
+    @UniqueList
+    public List<String> getDistinctLongNames() {
+        return new ArrayList<>(Arrays.asList("Al", "Ann", "Bob", "Ann", "Al", "Cid"));
+    }
+
+    /**
+     * Returns a stream of words. @FilterList should filter it lazily.
+     *
+     * @return A stream of words.
+     */
+    @FilterList("#e.startsWith('p')")
+    public Stream<String> streamWordsStartingWithP() {
+        return Stream.of("pear", "apple", "plum", "fig");
+    }
+
+    /**
+     * Returns a sequential stream of numbers repeating every hundred thousand.
+     * @UniqueList should keep each once, also when the caller turns the stream
+     * parallel.
+     *
+     * @param count the number of numbers.
+     * @return A stream of numbers.
+     */
+    @UniqueList
+    public Stream<Integer> streamRepeatedNumbers(int count) {
+        return IntStream.range(0, count).map(i -> i % 100_000).boxed();
+    }
+
+    /**
+     * Returns a sequential stream of numbers. @FilterList should keep the even
+     * ones, also when the caller turns the stream parallel.
+     *
+     * @param count the number of numbers.
+     * @return A stream of numbers.
+     */
+    @FilterList("#e % 2 == 0")
+    public Stream<Integer> streamEvenNumbers(int count) {
+        return IntStream.range(0, count).boxed();
+    }
+
+    /**
+     * Returns numbers. @FilterList should keep the even ones in a trimmed array.
+     *
+     * @return An array of numbers.
+     */
+    @FilterList("#e % 2 == 0")
+    public int[] getEvenNumbersArray() {
+        return new int[] { 1, 2, 3, 4, 5, 6 };
+    }
+
+    /**
+     * Returns a shared array. @FilterList should return the even codes in a new
+     * array and leave the shared one untouched.
+     *
+     * @return The shared array of codes.
+     */
+    @FilterList("#e % 2 == 0")
+    public int[] getSharedEvenCodes() {
+        return SHARED_CODES;
+    }
+
+    /**
+     * Returns a shared array. @FilterList and @UniqueList should return the
+     * even, unique ids in a new array and leave the shared one untouched.
+     *
+     * @return The shared array of ids.
+     */
+    @FilterList("#e % 2 == 0")
+    @UniqueList(inPlace = true)
+    public long[] getSharedEvenIds() {
+        return SHARED_IDS;
+    }
+
+    /**
+     * Returns a new ArrayList with duplicates. Declared as an ArrayList, which
+     * neither @CachedList nor @UniqueList could hand back their own lists as:
+     * neither should apply.
+     *
+     * @return A list of items with duplicates.
+     */
+    @CachedList
+    @UniqueList
+    public ArrayList<String> getCachedItemsArrayList() {
+        return new ArrayList<>(Arrays.asList("A", "B", "A"));
+    }
+
+    /**
+     * Returns the same numbers on every call. Declared as an ArrayList, so
+     * neither @DistinctAcrossCalls nor @ReverseList should apply.
+     *
+     * @return A list of numbers.
+     */
+    @DistinctAcrossCalls(expectedInsertions = 1000)
+    @ReverseList
+    public ArrayList<Integer> pollNumbersArrayList() {
+        return new ArrayList<>(Arrays.asList(1, 2, 3));
+    }
+}
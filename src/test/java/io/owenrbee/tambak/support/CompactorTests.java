@@ -0,0 +1,52 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.owenrbee.tambak.collection.CompactIntList;
+import io.owenrbee.tambak.service.DataService;
+
+/**
+ * Unit tests for {@link Compactor}. The transformations run on unboxed values
+ * are checked through {@link io.owenrbee.tambak.service.DataService}.
+ */
+class CompactorTests {
+
+	/**
+	 * A @SortedList limit cuts the sorted values on the compact path, as it does
+	 * on boxed lists.
+	 */
+	@Test
+	void testSortLimitIsApplied() throws Exception {
+		TransformPlan plan = TransformPlan.of(DataService.class.getMethod("getLowestCompactScores"));
+		List<?> lowest = Compactor.apply(plan, Arrays.asList(5, 4, 3, 2, 1));
+
+		Assertions.assertEquals(Arrays.asList(1, 2, 3), lowest);
+		Assertions.assertTrue(lowest instanceof CompactIntList);
+	}
+
+	/**
+	 * Compact lists are interchangeable with any other list of the same elements.
+	 */
+	@Test
+	void testCompactListsBehaveLikeLists() {
+		List<Integer> boxed = Arrays.asList(-5, 0, 1_000_000, 7);
+		List<?> packed = Compactor.compact(boxed);
+
+		Assertions.assertTrue(packed instanceof CompactIntList);
+		Assertions.assertEquals(boxed, packed);
+		Assertions.assertEquals(packed, boxed);
+		Assertions.assertEquals(boxed.hashCode(), packed.hashCode());
+		Assertions.assertEquals(2, packed.indexOf(1_000_000));
+		Assertions.assertFalse(packed.contains(7L));
+		Assertions.assertSame(packed, Compactor.compact(packed));
+
+		List<Object> mixed = Arrays.asList(1, 2L);
+		Assertions.assertSame(mixed, Compactor.compact(mixed));
+		Assertions.assertSame(List.of(), Compactor.compact(new ArrayList<Integer>()));
+	}
+}
@@ -0,0 +1,243 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link Deduplicator} strategies. Every strategy must give
+ * the same result as the reference {@link LinkedHashSet} implementation.
+ */
+class DeduplicatorTests {
+
+	private static List<Object> reference(List<?> list) {
+		return new ArrayList<>(new LinkedHashSet<>(list));
+	}
+
+	/**
+	 * Tiny lists use the linear scan.
+	 */
+	@Test
+	void testTinyListKeepsFirstOccurrences() {
+		List<String> list = Arrays.asList("b", "a", null, "b", null, "c");
+		Assertions.assertEquals(Arrays.asList("b", "a", null, "c"), Deduplicator.unique(list, false, true));
+	}
+
+	/**
+	 * Large lists of Long values go through the primitive hash set, including the
+	 * zero key and nulls.
+	 */
+	@Test
+	void testLongListMatchesReference() {
+		Random random = new Random(42);
+		List<Long> list = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			list.add(random.nextInt(10) == 0 ? null : (long) random.nextInt(2_000) - 1_000);
+		}
+		Assertions.assertEquals(reference(list), Deduplicator.unique(list, false, false));
+	}
+
+	/**
+	 * Integer and Long values are never equal, so a mixed list must not be
+	 * de-duplicated by numeric value.
+	 */
+	@Test
+	void testMixedIntegerAndLongAreDistinct() {
+		List<Object> list = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			list.add(i % 2 == 0 ? (Object) 1 : (Object) 1L);
+		}
+		Assertions.assertEquals(Arrays.asList(1, 1L), Deduplicator.unique(list, false, false));
+	}
+
+	/**
+	 * Strings and other objects go through the open-addressing object set.
+	 */
+	@Test
+	void testStringListMatchesReference() {
+		Random random = new Random(7);
+		List<String> list = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			list.add("item-" + random.nextInt(3_000));
+		}
+		Assertions.assertEquals(reference(list), Deduplicator.unique(list, false, false));
+	}
+
+	/**
+	 * A mutable ArrayList is compacted in place and returned as is.
+	 */
+	@Test
+	void testArrayListIsCompactedInPlace() {
+		List<Integer> list = new ArrayList<>(Arrays.asList(3, 1, 3, 2, 1, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 3));
+		List<Object> result = Deduplicator.unique(list, false, true);
+
+		Assertions.assertSame(list, result, "ArrayList should be compacted in place.");
+		Assertions.assertEquals(Arrays.asList(3, 1, 2, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14), list);
+	}
+
+	/**
+	 * With in-place compaction disabled, the input is left untouched.
+	 */
+	@Test
+	void testInPlaceDisabledCopies() {
+		List<Integer> list = new ArrayList<>(Arrays.asList(1, 1, 2));
+		List<Object> result = Deduplicator.unique(list, false, false);
+
+		Assertions.assertNotSame(list, result);
+		Assertions.assertEquals(Arrays.asList(1, 1, 2), list);
+		Assertions.assertEquals(Arrays.asList(1, 2), result);
+	}
+
+	/**
+	 * Sorted input only compares neighbours.
+	 */
+	@Test
+	void testAssumeSortedRemovesAdjacentDuplicates() {
+		List<String> list = new ArrayList<>(Arrays.asList("a", "a", "b", "c", "c", "c", "d"));
+		Assertions.assertEquals(Arrays.asList("a", "b", "c", "d"), Deduplicator.unique(list, true, true));
+	}
+
+	/**
+	 * Non random-access lists are copied in a single forward pass.
+	 */
+	@Test
+	void testLinkedListIsCopied() {
+		List<Integer> list = new LinkedList<>(Arrays.asList(5, 4, 5, 3, 4));
+		Assertions.assertEquals(Arrays.asList(5, 4, 3), Deduplicator.unique(list, false, true));
+		Assertions.assertEquals(5, list.size());
+	}
+
+	/**
+	 * Keeping last occurrences of whole elements, on a sequential list.
+	 */
+	@Test
+	void testKeepLastKeepsLastOccurrences() {
+		List<String> list = new LinkedList<>(Arrays.asList("a", "b", "a", null, "c", "b", null));
+		Assertions.assertEquals(Arrays.asList("a", "c", "b", null), Deduplicator.unique(list, null, false, true, true));
+	}
+
+	/**
+	 * Keys are read through a compiled getter; sorted input compares neighbouring
+	 * keys only.
+	 */
+	@Test
+	void testSortedByKeyKeepsFirstAndLast() {
+		List<Version> list = new ArrayList<>(Arrays.asList(new Version(1, "a"), new Version(1, "b"),
+				new Version(2, "c"), new Version(3, "d"), new Version(3, "e")));
+		Function<Object, Object> id = PropertyAccessors.forProperty("id");
+
+		Assertions.assertEquals(Arrays.asList("a", "c", "d"),
+				Deduplicator.unique(list, id, true, false, false).stream().map(v -> ((Version) v).getLabel()).toList());
+		Assertions.assertEquals(Arrays.asList("b", "c", "e"),
+				Deduplicator.unique(list, id, true, true, true).stream().map(v -> ((Version) v).getLabel()).toList());
+		Assertions.assertEquals(3, list.size(), "Compacted in place");
+	}
+
+	/**
+	 * The parallel engine gives exactly the sequential result, for whole
+	 * elements, keys and both keep policies.
+	 */
+	@Test
+	void testParallelMatchesSequential() {
+		Random random = new Random(7);
+		List<Object> list = new ArrayList<>();
+		for (int i = 0; i < 200_000; i++) {
+			int value = random.nextInt(50_000);
+			list.add(random.nextInt(100) == 0 ? null : (i % 2 == 0 ? "s" + value : value));
+		}
+		Function<Object, Object> key = element -> element != null ? element.toString().replace("s", "") : null;
+
+		for (boolean keepLast : new boolean[] { false, true }) {
+			Assertions.assertEquals(Deduplicator.unique(list, null, false, keepLast, false),
+					ParallelDeduplicator.unique(list, null, keepLast, false));
+			Assertions.assertEquals(Deduplicator.unique(list, key, false, keepLast, false),
+					ParallelDeduplicator.unique(list, key, keepLast, false));
+		}
+
+		List<Object> copy = new ArrayList<>(list);
+		Assertions.assertSame(copy, ParallelDeduplicator.unique(copy, null, false, true));
+		Assertions.assertEquals(reference(list), copy);
+	}
+
+	/**
+	 * Filtering fused with de-duplication must give the same result as
+	 * filtering first, and compact a mutable list in place.
+	 */
+	@Test
+	void testFilterAndUniqueInOnePass() {
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			list.add(i % 3 == 0 ? null : i % 700);
+		}
+		Predicate<Object> even = element -> element != null && (Integer) element % 2 == 0;
+		List<Object> filtered = list.stream().filter(even).collect(Collectors.toList());
+
+		for (boolean keepLast : new boolean[] { false, true }) {
+			Assertions.assertEquals(Deduplicator.unique(filtered, null, false, keepLast, false),
+					Deduplicator.unique(list, even, null, false, keepLast, false));
+		}
+
+		List<Object> copy = new ArrayList<>(list);
+		Assertions.assertSame(copy, Deduplicator.unique(copy, even, null, false, false, true));
+		Assertions.assertEquals(reference(filtered), copy);
+		Assertions.assertSame(copy, Deduplicator.filter(copy, element -> (Integer) element < 100, true));
+		Assertions.assertEquals(50, copy.size());
+	}
+
+	/**
+	 * The memory-mapped seen-set gives exactly the heap result, also when
+	 * distinct elements share a hash code ("Aa" and "BB" do).
+	 */
+	@Test
+	void testSpillingMatchesHeap() {
+		Random random = new Random(7);
+		List<Object> list = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			int value = random.nextInt(20_000);
+			list.add(random.nextInt(100) == 0 ? null : (i % 2 == 0 ? (random.nextBoolean() ? "Aa" : "BB") + value : value));
+		}
+		Function<Object, Object> key = element -> element != null ? element.toString().substring(0, 1) : null;
+
+		Assertions.assertTrue(SpillingDeduplicator.applies(list, 1L << 20));
+		Assertions.assertFalse(SpillingDeduplicator.applies(list, Long.MAX_VALUE));
+		for (boolean keepLast : new boolean[] { false, true }) {
+			Assertions.assertEquals(Deduplicator.unique(list, null, false, keepLast, false),
+					SpillingDeduplicator.unique(list, null, keepLast, false));
+			Assertions.assertEquals(Deduplicator.unique(list, key, false, keepLast, false),
+					SpillingDeduplicator.unique(list, key, keepLast, false));
+		}
+
+		List<Object> copy = new ArrayList<>(list);
+		Assertions.assertSame(copy, SpillingDeduplicator.unique(copy, null, false, true));
+		Assertions.assertEquals(reference(list), copy);
+	}
+
+	private static final class Version {
+
+		private final long id;
+
+		private final String label;
+
+		Version(long id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+
+		private long getId() {
+			return id;
+		}
+
+		String getLabel() {
+			return label;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package io.owenrbee.tambak.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link RotatingBloomFilter} window and false-positive
+ * rate.
+ */
+class RotatingBloomFilterTests {
+
+	/**
+	 * Elements are remembered for the whole window, and forgotten at most one
+	 * period (a third of the window) after it.
+	 */
+	@Test
+	void testElementsExpireAfterWindow() {
+		AtomicLong clock = new AtomicLong();
+		RotatingBloomFilter filter = new RotatingBloomFilter(300, 1000, 0.01, clock::get);
+
+		Assertions.assertTrue(filter.add(42));
+		Assertions.assertFalse(filter.add(42));
+
+		clock.set(299);
+		Assertions.assertFalse(filter.add(42), "Still within the window");
+
+		clock.set(400);
+		Assertions.assertTrue(filter.add(42), "Forgotten one period after the window");
+	}
+
+	/**
+	 * Up to the expected number of elements, the share of new elements reported as
+	 * seen stays around the configured rate, and memory does not grow with the
+	 * number of elements added.
+	 */
+	@Test
+	void testFalsePositiveRate() {
+		int expected = 100_000;
+		RotatingBloomFilter filter = new RotatingBloomFilter(Long.MAX_VALUE, expected, 0.01);
+		long size = filter.sizeInBytes();
+
+		// Probes that pass are added too, so both halves add up to the expectation.
+		for (int i = 0; i < expected / 2; i++) {
+			filter.add(i);
+		}
+		int falsePositives = 0;
+		int probes = expected / 2;
+		for (int i = 0; i < probes; i++) {
+			if (!filter.add(expected + i)) {
+				falsePositives++;
+			}
+		}
+
+		double rate = (double) falsePositives / probes;
+		Assertions.assertTrue(rate < 0.02, "False-positive rate " + rate);
+		Assertions.assertEquals(size, filter.sizeInBytes());
+	}
+
+	/**
+	 * Strings sharing a hash code, and longs that would share one, are still
+	 * told apart: their fingerprints use all 64 bits.
+	 */
+	@Test
+	void testCollidingHashCodesAreToldApart() {
+		RotatingBloomFilter filter = new RotatingBloomFilter(Long.MAX_VALUE, 1000, 0.01);
+		Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+		Assertions.assertEquals(Long.hashCode(1L), Long.hashCode(1L << 32));
+
+		Assertions.assertTrue(filter.add(DistinctWindow.fingerprint("Aa")));
+		Assertions.assertTrue(filter.add(DistinctWindow.fingerprint("BB")));
+		Assertions.assertFalse(filter.add(DistinctWindow.fingerprint("Aa")));
+		Assertions.assertTrue(filter.add(DistinctWindow.fingerprint(1L)));
+		Assertions.assertTrue(filter.add(DistinctWindow.fingerprint(1L << 32)));
+	}
+}
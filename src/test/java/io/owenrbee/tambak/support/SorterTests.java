@@ -0,0 +1,67 @@
+package io.owenrbee.tambak.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link Sorter} strategies. Every strategy must give the
+ * same result as a stable {@link List#sort(Comparator)} followed by a limit.
+ */
+class SorterTests {
+
+	private static final Comparator<Object> BY_TENS = Comparator.nullsLast(
+			Comparator.comparingInt(element -> (Integer) element / 10));
+
+	private static List<Object> reference(List<?> list, int limit) {
+		List<Object> sorted = new ArrayList<>(list);
+		sorted.sort(BY_TENS);
+		return limit >= 0 ? new ArrayList<>(sorted.subList(0, Math.min(limit, sorted.size()))) : sorted;
+	}
+
+	private static List<Integer> randomList(int size) {
+		Random random = new Random(11);
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			list.add(random.nextInt(50) == 0 ? null : random.nextInt(1_000));
+		}
+		return list;
+	}
+
+	/**
+	 * Small limits go through the bounded heap, which must stay stable: elements
+	 * with equal keys keep their encounter order.
+	 */
+	@Test
+	void testTopKIsStable() {
+		List<Integer> list = randomList(10_000);
+		for (int limit : new int[] { 0, 1, 7, 100, 2_499 }) {
+			Assertions.assertEquals(reference(list, limit), Sorter.sort(list, BY_TENS, limit, false));
+		}
+	}
+
+	/**
+	 * Unbounded and large limits sort the whole list.
+	 */
+	@Test
+	void testFullSortIsStable() {
+		List<Integer> list = randomList(100_000);
+		Assertions.assertEquals(reference(list, -1), Sorter.sort(list, BY_TENS, -1, false));
+		Assertions.assertEquals(reference(list, 60_000), Sorter.sort(list, BY_TENS, 60_000, false));
+	}
+
+	/**
+	 * A mutable ArrayList is sorted and truncated in place.
+	 */
+	@Test
+	void testInPlaceSortsTheList() {
+		List<Integer> list = new ArrayList<>(Arrays.asList(30, 10, 20, 40, 0, 50, 60, 70, 80, 90));
+		Assertions.assertSame(list, Sorter.sort(list, BY_TENS, 2, true));
+		Assertions.assertEquals(Arrays.asList(0, 10), list);
+	}
+}
@@ -0,0 +1,121 @@
+package io.owenrbee.tambak.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.owenrbee.tambak.annotation.LimitList;
+import io.owenrbee.tambak.service.DataService;
+
+/**
+ * Unit tests for the cached {@link TransformPlan} lookup on the advice hot
+ * path.
+ */
+class TransformPlanTests {
+
+	private static final int CALLS = 100_000;
+
+	@AfterEach
+	void resetDisabled() {
+		TambakSettings.setDisabled(Map.of());
+	}
+
+	private static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+				.getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * Plans are resolved once per method and then served from the cache.
+	 */
+	@Test
+	void testPlanIsCachedPerMethod() throws Exception {
+		Method method = DataService.class.getMethod("getNonNullNonEmptyList");
+
+		TransformPlan plan = AdvisedMethods.plan(method, DataService.class);
+		Assertions.assertSame(plan, AdvisedMethods.plan(method, DataService.class));
+		Assertions.assertEquals(method, plan.method());
+	}
+
+	/**
+	 * Looking up the plan of a @MustNotNullList method and applying it to a
+	 * non-null list allocates nothing. Measures the lookup by method only: the
+	 * join point an advice gets from Spring AOP allocates its own signature.
+	 */
+	@Test
+	void testMustNotNullListOnNonNullResultDoesNotAllocate() throws Exception {
+		Method method = DataService.class.getMethod("getNonNullNonEmptyList");
+		List<Boolean> result = new ArrayList<>(Arrays.asList(true, false));
+
+		// Warm up, so class loading and the first cache miss are not measured.
+		Object sink = null;
+		for (int i = 0; i < CALLS; i++) {
+			sink = AdvisedMethods.plan(method, DataService.class).apply(result);
+		}
+
+		long before = allocatedBytes();
+		for (int i = 0; i < CALLS; i++) {
+			sink = AdvisedMethods.plan(method, DataService.class).apply(result);
+		}
+		long allocated = allocatedBytes() - before;
+
+		Assertions.assertSame(result, sink);
+		// A single allocation per call would already amount to over a megabyte.
+		Assertions.assertTrue(allocated < 1024, "Allocated " + allocated + " bytes in " + CALLS + " calls");
+	}
+
+	/**
+	 * Immutable substitutes for null results are shared: guarding a null array
+	 * or optional allocates nothing.
+	 */
+	@Test
+	void testMustNotNullListOnNullArrayDoesNotAllocate() throws Exception {
+		Method codes = DataService.class.getMethod("getNullableCodes");
+		Method name = DataService.class.getMethod("findNullableName");
+
+		Object sink = null;
+		for (int i = 0; i < CALLS; i++) {
+			sink = AdvisedMethods.plan(codes, DataService.class).apply(null);
+			sink = AdvisedMethods.plan(name, DataService.class).apply(null);
+		}
+
+		long before = allocatedBytes();
+		for (int i = 0; i < CALLS; i++) {
+			sink = AdvisedMethods.plan(codes, DataService.class).apply(null);
+			sink = AdvisedMethods.plan(name, DataService.class).apply(null);
+		}
+		long allocated = allocatedBytes() - before;
+
+		Assertions.assertNotNull(sink);
+		Assertions.assertTrue(allocated < 1024, "Allocated " + allocated + " bytes in " + CALLS + " calls");
+	}
+
+	/**
+	 * A pattern naming the class a method is called on switches annotations off
+	 * for the methods it inherits, and not for other subclasses of the declaring
+	 * class.
+	 */
+	@Test
+	void testDisabledPatternCoversInheritedMethods() throws Exception {
+		Method method = DataService.class.getMethod("getNumbersPage");
+		TambakSettings.setDisabled(Map.of(LimitList.class, List.of(PagedDataService.class.getName())));
+
+		Assertions.assertFalse(AdvisedMethods.plan(method, PagedDataService.class).isEnabled(LimitList.class));
+		Assertions.assertTrue(AdvisedMethods.plan(method, DataService.class).isEnabled(LimitList.class));
+
+		TambakSettings.setDisabled(Map.of(LimitList.class, List.of(DataService.class.getName())));
+
+		Assertions.assertFalse(AdvisedMethods.plan(method, PagedDataService.class).isEnabled(LimitList.class));
+		Assertions.assertFalse(AdvisedMethods.plan(method, DataService.class).isEnabled(LimitList.class));
+	}
+
+	static class PagedDataService extends DataService {
+	}
+}
@@ -0,0 +1,96 @@
+package io.owenrbee.tambak.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.owenrbee.tambak.annotation.KeepPolicy;
+
+/**
+ * Unit tests for {@link TambakCollectors} and {@link TambakLists}. Sequential
+ * and parallel streams must agree with the list facade, and the facade must
+ * leave its input untouched.
+ */
+class TambakCollectorsTests {
+
+	private static final Comparator<Integer> BY_TENS = Comparator.comparingInt(element -> element / 10);
+
+	private static List<Integer> randomList(int size) {
+		Random random = new Random(7);
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			list.add(random.nextInt(2_000));
+		}
+		return list;
+	}
+
+	@Test
+	void testUniqueCollectorsKeepEncounterOrder() {
+		List<Integer> list = randomList(50_000);
+		List<Integer> expected = list.stream().distinct().collect(Collectors.toList());
+
+		Assertions.assertEquals(expected, list.stream().collect(TambakCollectors.toUniqueList()));
+		Assertions.assertEquals(expected, list.parallelStream().collect(TambakCollectors.toUniqueList()));
+		Assertions.assertEquals(expected, TambakLists.unique(list));
+
+		List<Integer> reversed = new ArrayList<>(expected);
+		Collections.reverse(reversed);
+		Assertions.assertEquals(reversed, list.parallelStream().collect(TambakCollectors.uniqueReversed()));
+		Assertions.assertEquals(reversed, TambakLists.uniqueReversed(list));
+	}
+
+	@Test
+	void testUniqueByKeepsFirstOrLastOfEachKey() {
+		List<Integer> list = Arrays.asList(11, 25, 13, 27, 31, 19);
+
+		Assertions.assertEquals(Arrays.asList(11, 25, 31),
+				list.stream().collect(TambakCollectors.uniqueBy(element -> element / 10)));
+		Assertions.assertEquals(Arrays.asList(27, 31, 19),
+				list.stream().collect(TambakCollectors.uniqueBy(element -> element / 10, KeepPolicy.LAST)));
+		Assertions.assertEquals(Arrays.asList(11, 25, 31), TambakLists.uniqueBy(list, element -> element / 10));
+		Assertions.assertEquals(Arrays.asList(27, 31, 19),
+				TambakLists.uniqueBy(list, element -> element / 10, KeepPolicy.LAST));
+
+		List<Integer> large = randomList(20_000);
+		Assertions.assertEquals(TambakLists.uniqueBy(large, element -> element % 97),
+				large.parallelStream().collect(TambakCollectors.uniqueBy(element -> element % 97)));
+	}
+
+	/**
+	 * Ties must come out in encounter order, also when a parallel stream merges
+	 * partial selections.
+	 */
+	@Test
+	void testTopKIsStable() {
+		List<Integer> list = randomList(30_000);
+		for (int k : new int[] { 0, 1, 5, 100 }) {
+			List<Integer> expected = list.stream().sorted(BY_TENS).limit(k).collect(Collectors.toList());
+			Assertions.assertEquals(expected, list.stream().collect(TambakCollectors.topK(k, BY_TENS)));
+			Assertions.assertEquals(expected, list.parallelStream().collect(TambakCollectors.topK(k, BY_TENS)));
+			Assertions.assertEquals(expected, TambakLists.topK(list, k, BY_TENS));
+		}
+	}
+
+	@Test
+	void testListsLeaveTheInputUntouched() {
+		List<Integer> list = new ArrayList<>(Arrays.asList(3, 1, 3, 2, 1));
+
+		Assertions.assertEquals(Arrays.asList(1, 2, 3), TambakLists.uniqueReversed(TambakLists.sorted(list,
+				Comparator.<Integer>reverseOrder())));
+		Assertions.assertEquals(Arrays.asList(1, 2, 3, 1, 3), TambakLists.reversed(list));
+		Assertions.assertEquals(Arrays.asList(3, 1, 3, 2, 1), list);
+
+		Assertions.assertNull(TambakLists.unique(null));
+		Assertions.assertEquals(List.of(), TambakLists.nonNull(null));
+		Assertions.assertEquals(Arrays.asList(1, 2, 3, 4),
+				IntStream.of(4, 3, 2, 1).boxed().collect(TambakCollectors.toReversedList()));
+	}
+}
@@ -0,0 +1,20 @@
+package io.owenrbee.tambak.benchmarks;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.owenrbee.tambak.config.EnableTambakAnnotations;
+
+/**
+ * Minimal application context: the Tambak aspects plus a single advised
+ * {@link BenchmarkService}.
+ */
+@Configuration
+@EnableTambakAnnotations
+public class BenchmarkConfig {
+
+    @Bean
+    public BenchmarkService benchmarkService() {
+        return new BenchmarkService();
+    }
+}
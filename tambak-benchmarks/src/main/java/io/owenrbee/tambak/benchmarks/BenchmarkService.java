@@ -0,0 +1,95 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.List;
+
+import io.owenrbee.tambak.annotation.MustNotNullList;
+import io.owenrbee.tambak.annotation.ReverseList;
+import io.owenrbee.tambak.annotation.SortedList;
+import io.owenrbee.tambak.annotation.UniqueList;
+
+/**
+ * Benchmark target modelled after the {@code DataService} test fixture.
+ * <p>
+ * Every method hands back the same pre-built list so that the measured time is
+ * the call itself plus whatever the advice does, never the cost of producing
+ * the list. The same class is used both as the advised (proxied) bean and as
+ * the unadvised baseline instance.
+ */
+public class BenchmarkService {
+
+    private List<Integer> items = List.of();
+
+    private List<Entity> entities = List.of();
+
+    public void setItems(List<Integer> items) {
+        this.items = items;
+    }
+
+    public void setEntities(List<Entity> entities) {
+        this.entities = entities;
+    }
+
+    /**
+     * Not annotated: measures bare dispatch through the proxy.
+     */
+    public List<Integer> plain() {
+        return items;
+    }
+
+    @ReverseList
+    public List<Integer> reversed() {
+        return items;
+    }
+
+    @UniqueList(inPlace = false)
+    public List<Integer> unique() {
+        return items;
+    }
+
+    /**
+     * Parallel de-duplication; copies, so the shared list stays intact.
+     */
+    @UniqueList(parallelThreshold = 100_000, inPlace = false)
+    public List<Integer> uniqueParallel() {
+        return items;
+    }
+
+    /**
+     * Top-k selection; copies, so the shared list stays intact.
+     */
+    @SortedList(descending = true, limit = 50, inPlace = false)
+    public List<Integer> top50() {
+        return items;
+    }
+
+    /**
+     * Keyed de-duplication; copies, so the shared list stays intact.
+     */
+    @UniqueList(by = "id", inPlace = false)
+    public List<Entity> uniqueById() {
+        return entities;
+    }
+
+    @MustNotNullList
+    public List<Integer> notNull() {
+        return items;
+    }
+
+    @MustNotNullList
+    public List<Integer> nullResult() {
+        return null;
+    }
+
+    @MustNotNullList
+    @UniqueList(inPlace = false)
+    @ReverseList
+    public List<Integer> stacked() {
+        return items;
+    }
+
+    /**
+     * Entity de-duplicated by its ID.
+     */
+    public record Entity(long id, String name) {
+    }
+}
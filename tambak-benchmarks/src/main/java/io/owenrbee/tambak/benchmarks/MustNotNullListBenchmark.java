@@ -0,0 +1,50 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@code MustNotNullListAspect.ensureNotNullList}, for both a non-null
+ * result (pure advice overhead) and a null result (substitution path).
+ * <p>
+ * The list size does not influence this aspect; it is still a parameter so the
+ * results line up with the other benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class MustNotNullListBenchmark {
+
+    @Benchmark
+    public List<Integer> baselineNonNull(ServiceState state) {
+        List<Integer> result = state.baseline.notNull();
+        return result != null ? result : new ArrayList<>();
+    }
+
+    @Benchmark
+    public List<Integer> advisedNonNull(ServiceState state) {
+        return state.proxied.notNull();
+    }
+
+    @Benchmark
+    public List<Integer> baselineNull(ServiceState state) {
+        List<Integer> result = state.baseline.nullResult();
+        return result != null ? result : new ArrayList<>();
+    }
+
+    @Benchmark
+    public List<Integer> advisedNull(ServiceState state) {
+        return state.proxied.nullResult();
+    }
+}
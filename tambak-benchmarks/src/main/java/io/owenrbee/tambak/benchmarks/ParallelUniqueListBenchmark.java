@@ -0,0 +1,72 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Scaling of {@code @UniqueList(parallelThreshold = ...)} with the number of
+ * cores. The advised call runs inside a {@link ForkJoinPool} of {@code threads}
+ * workers, which the parallel engine then uses instead of the common pool;
+ * with a single thread the sequential engine is used, as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Benchmark)
+public class ParallelUniqueListBenchmark {
+
+    @Param({ "1000000", "10000000" })
+    public int size;
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private AnnotationConfigApplicationContext context;
+
+    private BenchmarkService proxied;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Integer> items = new ArrayList<>(size);
+        int distinct = Math.max(1, size / 2);
+        for (int i = 0; i < size; i++) {
+            items.add(i % distinct);
+        }
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        proxied = context.getBean(BenchmarkService.class);
+        proxied.setItems(items);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public List<Integer> advised() {
+        return pool.submit(proxied::uniqueParallel).join();
+    }
+}
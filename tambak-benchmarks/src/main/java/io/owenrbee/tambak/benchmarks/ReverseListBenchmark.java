@@ -0,0 +1,40 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@code ReverseListAspect.reverseList} compared with calling the same
+ * method without a proxy and doing the reversal by hand.
+ * <p>
+ * The list is reversed in place on every call, so consecutive invocations
+ * alternate between the two orders; the work per call is identical.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ReverseListBenchmark {
+
+    @Benchmark
+    public List<Integer> baseline(ServiceState state) {
+        List<Integer> result = state.baseline.reversed();
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> advised(ServiceState state) {
+        return state.proxied.reversed();
+    }
+}
@@ -0,0 +1,74 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Shared benchmark state: a Spring context holding the CGLIB-proxied
+ * {@link BenchmarkService} and a plain, unadvised instance returning the same
+ * list.
+ * <p>
+ * Half of the generated values are duplicates so that {@code @UniqueList}
+ * always has real work to do. The values are shuffled with a fixed seed, so
+ * sorting never benefits from pre-sorted runs.
+ */
+@State(Scope.Benchmark)
+public class ServiceState {
+
+    @Param({ "0", "10", "1000", "100000", "10000000" })
+    public int size;
+
+    AnnotationConfigApplicationContext context;
+
+    /** Advised bean, every call goes through the proxy interceptor chain. */
+    BenchmarkService proxied;
+
+    /** Unadvised instance, used as the baseline. */
+    BenchmarkService baseline;
+
+    List<Integer> items;
+
+    List<BenchmarkService.Entity> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = new ArrayList<>(size);
+        int distinct = Math.max(1, size / 2);
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(i % distinct);
+            entities.add(new BenchmarkService.Entity(i % distinct, "entity-" + i));
+        }
+
+        Collections.shuffle(items, new Random(42));
+        Collections.shuffle(entities, new Random(42));
+
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        proxied = context.getBean(BenchmarkService.class);
+        if (!AopUtils.isAopProxy(proxied)) {
+            throw new IllegalStateException("BenchmarkService is not advised, check @EnableTambakAnnotations");
+        }
+        proxied.setItems(items);
+        proxied.setEntities(entities);
+
+        baseline = new BenchmarkService();
+        baseline.setItems(items);
+        baseline.setEntities(entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+}
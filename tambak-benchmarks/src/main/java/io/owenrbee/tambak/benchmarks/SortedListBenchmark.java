@@ -0,0 +1,38 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@code @SortedList(limit = 50)}, a bounded-heap selection, compared
+ * with an unadvised call followed by a full sort and a sub-list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class SortedListBenchmark {
+
+    @Benchmark
+    public List<Integer> baseline(ServiceState state) {
+        List<Integer> sorted = new ArrayList<>(state.baseline.top50());
+        sorted.sort(Comparator.reverseOrder());
+        return new ArrayList<>(sorted.subList(0, Math.min(50, sorted.size())));
+    }
+
+    @Benchmark
+    public List<Integer> advised(ServiceState state) {
+        return state.proxied.top50();
+    }
+}
@@ -0,0 +1,54 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A method carrying {@code @MustNotNullList}, {@code @UniqueList} and
+ * {@code @ReverseList} at once, plus bare proxy dispatch of a method with no
+ * annotation at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class StackedAnnotationsBenchmark {
+
+    @Benchmark
+    public List<Integer> baselinePlain(ServiceState state) {
+        return state.baseline.plain();
+    }
+
+    @Benchmark
+    public List<Integer> proxiedPlain(ServiceState state) {
+        return state.proxied.plain();
+    }
+
+    @Benchmark
+    public List<Integer> baselineStacked(ServiceState state) {
+        List<Integer> result = state.baseline.stacked();
+        if (result == null) {
+            return new ArrayList<>();
+        }
+        List<Integer> unique = new ArrayList<>(new LinkedHashSet<>(result));
+        Collections.reverse(unique);
+        return unique;
+    }
+
+    @Benchmark
+    public List<Integer> advisedStacked(ServiceState state) {
+        return state.proxied.stacked();
+    }
+}
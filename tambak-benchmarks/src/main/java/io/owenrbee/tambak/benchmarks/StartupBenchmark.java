@@ -0,0 +1,85 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import io.owenrbee.tambak.config.TambakAutoConfiguration;
+
+/**
+ * Cold startup of a context holding the Tambak aspects and one advised
+ * {@link BenchmarkService}, measured once per fresh JVM.
+ * <p>
+ * Compares scanning the aspect package, as {@code @EnableTambakAnnotations}
+ * used to, with the annotation and the auto-configuration, which both register
+ * the aspects by name. Native images are not covered here: build the
+ * application with {@code spring-boot:process-aot} and {@code native:compile}
+ * and time its startup log line instead.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Object componentScan() {
+        return start(ScanConfig.class);
+    }
+
+    @Benchmark
+    public Object enableAnnotation() {
+        return start(BenchmarkConfig.class);
+    }
+
+    @Benchmark
+    public Object autoConfiguration() {
+        return start(AutoConfig.class);
+    }
+
+    private static Object start(Class<?> configClass) {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(configClass)) {
+            BenchmarkService service = context.getBean(BenchmarkService.class);
+            if (!AopUtils.isAopProxy(service)) {
+                throw new IllegalStateException("BenchmarkService is not advised by " + configClass.getSimpleName());
+            }
+            return service;
+        }
+    }
+
+    /** The former proxy configuration, scanning for the aspects. */
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @ComponentScan("io.owenrbee.tambak.aspect")
+    static class ScanConfig {
+
+        @Bean
+        public BenchmarkService benchmarkService() {
+            return new BenchmarkService();
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(TambakAutoConfiguration.class)
+    static class AutoConfig {
+
+        @Bean
+        public BenchmarkService benchmarkService() {
+            return new BenchmarkService();
+        }
+    }
+}
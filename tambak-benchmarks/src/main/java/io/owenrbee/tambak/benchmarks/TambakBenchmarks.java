@@ -0,0 +1,30 @@
+package io.owenrbee.tambak.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded benchmark jar.
+ * <p>
+ * Accepts the regular JMH command line and always attaches the GC profiler, so
+ * every run reports {@code gc.alloc.rate.norm} (bytes allocated per call) next
+ * to the timings.
+ */
+public final class TambakBenchmarks {
+
+    private TambakBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
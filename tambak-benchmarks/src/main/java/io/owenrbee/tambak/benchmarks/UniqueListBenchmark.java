@@ -0,0 +1,53 @@
+package io.owenrbee.tambak.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@code UniqueListAspect.makeListUnique} compared with an unadvised
+ * call followed by the equivalent hand-written de-duplication, both for whole
+ * elements and by entity ID.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class UniqueListBenchmark {
+
+    @Benchmark
+    public List<Integer> baseline(ServiceState state) {
+        return new ArrayList<>(new LinkedHashSet<>(state.baseline.unique()));
+    }
+
+    @Benchmark
+    public List<Integer> advised(ServiceState state) {
+        return state.proxied.unique();
+    }
+
+    @Benchmark
+    public List<BenchmarkService.Entity> baselineById(ServiceState state) {
+        Map<Long, BenchmarkService.Entity> byId = new LinkedHashMap<>();
+        for (BenchmarkService.Entity entity : state.baseline.uniqueById()) {
+            byId.putIfAbsent(entity.id(), entity);
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    @Benchmark
+    public List<BenchmarkService.Entity> advisedById(ServiceState state) {
+        return state.proxied.uniqueById();
+    }
+}